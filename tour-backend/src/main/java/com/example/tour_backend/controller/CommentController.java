@@ -1,6 +1,7 @@
 package com.example.tour_backend.controller;
 
 import com.example.tour_backend.dto.comment.CommentDto;
+import com.example.tour_backend.dto.comment.CommentPageDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,6 +22,42 @@ public class CommentController {
         return ResponseEntity.ok(comments);
     }
 
+    // 댓글 커서 페이지 (size 파라미터가 있으면 이 메서드로 매핑, 최상위 댓글 + 앞부분 대댓글)
+    // 예) /api/comments/thread/5?size=20&replies=3&cursor=88
+    @GetMapping(value = "/thread/{threadId}", params = "size")
+    public ResponseEntity<CommentPageDto> getCommentPage(@PathVariable Long threadId,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam Integer size,
+                                                         @RequestParam(required = false) Integer replies) {
+        return ResponseEntity.ok(commentService.getCommentPage(threadId, cursor, size, replies));
+    }
+
+    // 대댓글 더보기 (특정 댓글의 직계 대댓글 커서 페이지)
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<CommentPageDto> getReplyPage(@PathVariable Long commentId,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(commentService.getReplyPage(commentId, cursor, size));
+    }
+
+    // 게시글 전체 댓글을 트리 순서(부모 → 자식)의 평평한 목록으로, depth로 들여쓰기
+    @GetMapping("/thread/{threadId}/flat")
+    public ResponseEntity<List<CommentDto>> getCommentsInOrder(@PathVariable Long threadId) {
+        return ResponseEntity.ok(commentService.getCommentsInOrder(threadId));
+    }
+
+    // 하위 트리 (자기 자신 포함, 트리 순서)
+    @GetMapping("/{commentId}/subtree")
+    public ResponseEntity<List<CommentDto>> getSubtree(@PathVariable Long commentId) {
+        return ResponseEntity.ok(commentService.getSubtree(commentId));
+    }
+
+    // 하위 댓글 수 (모든 깊이)
+    @GetMapping("/{commentId}/descendants/count")
+    public ResponseEntity<Long> countDescendants(@PathVariable Long commentId) {
+        return ResponseEntity.ok(commentService.countDescendants(commentId));
+    }
+
     // 댓글 작성
     @PostMapping
     public ResponseEntity<CommentDto> addComment(@RequestBody CommentDto dto) {
@@ -2,9 +2,12 @@ package com.example.tour_backend.controller;
 
 import com.example.tour_backend.dto.notification.NotificationDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import com.example.tour_backend.service.NotificationService;
+import com.example.tour_backend.service.NotificationStreamService;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -13,16 +16,47 @@ import java.util.List;
 @RequiredArgsConstructor
 public class NotificationController {
     private final NotificationService notificationService;
+    private final NotificationStreamService notificationStreamService;
 
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<NotificationDto>> getNotifications(@PathVariable Long userId) {
         List<NotificationDto> list = notificationService.getUserNotifications(userId);
         return ResponseEntity.ok(list);
     }
-    @DeleteMapping // 7/3
-    public ResponseEntity<Void> deleteNotifications(@RequestBody List<Long> ids) {
-        notificationService.deleteNotificationsByIds(ids);
-        return ResponseEntity.noContent().build();
+
+    // 안 읽은 알림 수 (헤더 배지용)
+    @GetMapping("/user/{userId}/unread-count")
+    public ResponseEntity<Long> getUnreadCount(@PathVariable Long userId) {
+        return ResponseEntity.ok(notificationService.getUnreadCount(userId));
+    }
+
+    // 새 알림 실시간 수신 (SSE, 재연결 시 Last-Event-ID 이후부터 재개)
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam Long userId,
+                             @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return notificationStreamService.subscribe(userId, lastEventId);
+    }
+    @DeleteMapping // 7/3 (삭제된 알림 수 반환)
+    public ResponseEntity<Integer> deleteNotifications(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(notificationService.deleteNotificationsByIds(ids));
+    }
+
+    // 읽은 알림 전부 삭제 (삭제된 알림 수 반환)
+    @DeleteMapping("/user/{userId}/read")
+    public ResponseEntity<Integer> deleteAllRead(@PathVariable Long userId) {
+        return ResponseEntity.ok(notificationService.deleteAllRead(userId));
+    }
+
+    // 선택한 알림 읽음 처리 (읽음으로 바뀐 알림 수 반환)
+    @PatchMapping("/read")
+    public ResponseEntity<Integer> markAsReadByIds(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(notificationService.markAsReadByIds(ids));
+    }
+
+    // 모든 알림 읽음 처리 (읽음으로 바뀐 알림 수 반환)
+    @PatchMapping("/user/{userId}/read-all")
+    public ResponseEntity<Integer> markAllAsRead(@PathVariable Long userId) {
+        return ResponseEntity.ok(notificationService.markAllAsRead(userId));
     }
     // 알림 읽음 처리하는 메서드 7/7
     @PatchMapping("/{noticeId}/read")
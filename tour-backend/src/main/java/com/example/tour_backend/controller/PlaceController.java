@@ -0,0 +1,41 @@
+package com.example.tour_backend.controller;
+
+import com.example.tour_backend.dto.common.ApiResponse;
+import com.example.tour_backend.dto.tour.plan.LocationDataDto;
+import com.example.tour_backend.service.PlaceService;
+import com.example.tour_backend.util.ResponseUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/places")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:5173")
+public class PlaceController {
+
+    private final PlaceService placeService;
+
+    /**
+     * 장소 상세 조회
+     */
+    @GetMapping("/{placeId}")
+    public ResponseEntity<ApiResponse<LocationDataDto>> getPlace(@PathVariable String placeId) {
+        return ResponseUtil.conditionalSuccess(
+                placeService.getPlace(placeId),
+                "장소를 찾을 수 없습니다. placeId: " + placeId
+        );
+    }
+
+    /**
+     * 장소 상세 수정 (이 장소를 사용하는 모든 여행 계획에 반영)
+     */
+    @PutMapping("/{placeId}")
+    public ResponseEntity<ApiResponse<LocationDataDto>> updatePlace(@PathVariable String placeId,
+                                                                    @RequestBody LocationDataDto dto) {
+        log.info("장소 수정 요청: placeId={}", placeId);
+        return ResponseUtil.updated(placeService.updatePlace(placeId, dto));
+    }
+}
@@ -2,18 +2,27 @@ package com.example.tour_backend.controller;
 
 import com.example.tour_backend.domain.thread.Thread;
 import com.example.tour_backend.domain.thread.ThreadRepository;
+import com.example.tour_backend.dto.thread.AreaFacetDto;
+import com.example.tour_backend.dto.thread.SuggestionDto;
 import com.example.tour_backend.dto.thread.ThreadDto;
+import com.example.tour_backend.dto.thread.ThreadPageDto;
 import com.example.tour_backend.dto.thread.ThreadUpdateRequestDto;
+import com.example.tour_backend.service.AreaFacetService;
 import com.example.tour_backend.service.FileUploadService;
+import com.example.tour_backend.service.ThreadTypeaheadService;
+import com.example.tour_backend.util.JsonArrayStreamer;
+import com.example.tour_backend.util.search.CompletionTrie;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import com.example.tour_backend.service.ThreadService;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
@@ -23,6 +32,9 @@ public class ThreadController {
     private final ThreadService threadService;
     private final FileUploadService fileUploadService; // 파일 업로드
     private final ThreadRepository threadRepository;
+    private final AreaFacetService areaFacetService;
+    private final ThreadTypeaheadService threadTypeaheadService;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
     @PostMapping //게시글 생성
     public ResponseEntity<ThreadDto> createThread(@RequestBody ThreadUpdateRequestDto requestDto) {
@@ -39,11 +51,49 @@ public class ThreadController {
             return ResponseEntity.notFound().build();
         }
     }
-    @GetMapping //모든 게시글 목록 조회
-    public ResponseEntity<List<ThreadDto>> getAllThreads() {
-        List<ThreadDto> threads = threadService.getAllThreads();
-        return ResponseEntity.ok(threads);
-
+    @GetMapping //모든 게시글 목록 조회 (목록을 모으지 않고 스트리밍)
+    public ResponseEntity<StreamingResponseBody> getAllThreads() {
+        return jsonArrayStreamer.array(threadService::streamAllThreads);
+    }
+    // 게시판 커서 페이지 조회 (size 파라미터가 있으면 이 메서드로 매핑)
+    // 예) /api/thread?size=20&area=서울&sort=views&cursor=152_88
+    @GetMapping(params = "size")
+    public ResponseEntity<ThreadPageDto> getThreadPage(@RequestParam(required = false) String cursor,
+                                                       @RequestParam Integer size,
+                                                       @RequestParam(required = false) String area,
+                                                       @RequestParam(required = false, defaultValue = "latest") String sort,
+                                                       @RequestParam(required = false) Long userId) {
+        return ResponseEntity.ok(threadService.getThreadPage(cursor, size, area, sort, userId));
+    }
+    // 목록 페이지 좋아요 여부 일괄 조회 (조회수 증가 없음)
+    // 예) /api/thread/liked?userId=3&threadIds=10,11,12 → 좋아요 누른 게시글 ID 목록
+    @GetMapping("/liked")
+    public ResponseEntity<Set<Long>> getLikedThreadIds(@RequestParam Long userId,
+                                                       @RequestParam List<Long> threadIds) {
+        return ResponseEntity.ok(threadService.getLikedThreadIds(userId, threadIds));
+    }
+    // 게시판 지역 필터 목록 (지역별 게시글 수 + 최근 활동, 메모리에서 조회)
+    @GetMapping("/areas")
+    public ResponseEntity<List<AreaFacetDto>> getAreaFacets() {
+        return ResponseEntity.ok(areaFacetService.getFacets());
+    }
+    // 검색어 자동완성 (게시글 제목/지역/장소, 입력 중인 글자도 매칭)
+    // 예) /api/thread/suggest?q=젲&size=10
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDto>> suggest(@RequestParam String q,
+                                                       @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(threadTypeaheadService.suggest(q, size));
+    }
+    // 자동완성 트라이 크기 (노드/항목 수, 추정 메모리)
+    @GetMapping("/suggest/stats")
+    public ResponseEntity<CompletionTrie.Stats> getSuggestStats() {
+        return ResponseEntity.ok(threadTypeaheadService.stats());
+    }
+    // 인기 게시글 (조회/좋아요/댓글 + 시간 감쇠, 메모리에서 조회)
+    @GetMapping("/trending")
+    public ResponseEntity<List<ThreadDto>> getTrendingThreads(@RequestParam(required = false) String area,
+                                                              @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(threadService.getTrendingThreads(area, size));
     }
     @DeleteMapping("/{id}") // 게시글 삭제 (추추추가)
     public ResponseEntity<Void> deleteThread(@PathVariable Long id) {
@@ -83,10 +133,12 @@ public class ThreadController {
     @GetMapping("/search") // 게시글 검색 기능 (수정함) 추추추추가
     public ResponseEntity<List<ThreadDto>> searchThreads(@RequestParam String keyword,
                                                          @RequestParam String searchType,
-                                                         @RequestParam(required = false, defaultValue = "createDate") String sortBy) {
+                                                         @RequestParam(required = false, defaultValue = "createDate") String sortBy,
+                                                         @RequestParam(required = false) Integer page,
+                                                         @RequestParam(required = false) Integer size) {
 
 
-        List<ThreadDto> results = threadService.searchThreads(keyword, searchType, sortBy);
+        List<ThreadDto> results = threadService.searchThreads(keyword, searchType, sortBy, page, size);
         return ResponseEntity.ok(results);
     }
     @PostMapping("/{id}/like") // 좋아요 기능 추가 (수정함)
@@ -98,6 +150,24 @@ public class ThreadController {
             return ResponseEntity.notFound().build();
         }
     }
+    // 좋아요 설정 (멱등, 이미 눌렀으면 변경 없음)
+    @PutMapping("/{id}/like")
+    public ResponseEntity<ThreadDto> setLike(@PathVariable Long id, @RequestParam Long userId) {
+        try {
+            return ResponseEntity.ok(threadService.setLike(id, userId, true));
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    // 좋아요 해제 (멱등, 누르지 않았으면 변경 없음)
+    @DeleteMapping("/{id}/like")
+    public ResponseEntity<ThreadDto> unsetLike(@PathVariable Long id, @RequestParam Long userId) {
+        try {
+            return ResponseEntity.ok(threadService.setLike(id, userId, false));
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
     // 게시물에 현재 좋아요 누른 사용자 호출 7/1
     @GetMapping("/{id}/like-status")
     public ResponseEntity<ThreadDto> getThreadWithLikeStatus( // 메서드 이름 중복이어서 이름만 바꿈 7/2
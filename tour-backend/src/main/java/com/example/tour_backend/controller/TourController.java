@@ -1,15 +1,21 @@
 package com.example.tour_backend.controller;
 
 import com.example.tour_backend.dto.common.ApiResponse;
+import com.example.tour_backend.dto.tour.TourCalendarDto;
 import com.example.tour_backend.dto.tour.TourDto;
+import com.example.tour_backend.dto.tour.TourFilterDto;
 import com.example.tour_backend.service.TourService;
+import com.example.tour_backend.util.JsonArrayStreamer;
 import com.example.tour_backend.util.ResponseUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RestController
@@ -19,6 +25,7 @@ import java.util.List;
 public class TourController {
     
     private final TourService tourService;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
     /**
      * 새로운 여행 계획 생성
@@ -60,13 +67,36 @@ public class TourController {
         return ResponseUtil.success(tours, "사용자의 여행 계획 목록을 성공적으로 조회했습니다.");
     }
 
+    /**
+     * 사용자의 월간 캘린더 (예: /api/tours/user/1/calendar?month=2025-08)
+     */
+    @GetMapping("/user/{userId}/calendar")
+    public ResponseEntity<ApiResponse<TourCalendarDto>> getMonthlyCalendar(@PathVariable Long userId,
+                                                                           @RequestParam String month) {
+        TourCalendarDto calendar = tourService.getMonthlyCalendar(userId, month);
+        return ResponseUtil.success(calendar, "월간 캘린더를 성공적으로 조회했습니다.");
+    }
+
     /**
      * 모든 여행 계획 조회 (관리자용)
+     * - 응답 형식은 ApiResponse 그대로, data 배열을 DB 커서에서 바로 스트리밍
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<TourDto>>> getAllTours() {
-        List<TourDto> tours = tourService.getAllTours();
-        return ResponseUtil.success(tours, "모든 여행 계획 목록을 성공적으로 조회했습니다.");
+    public ResponseEntity<StreamingResponseBody> getAllTours() {
+        return jsonArrayStreamer.success(tourService::streamAllTours, "모든 여행 계획 목록을 성공적으로 조회했습니다.");
+    }
+
+    /**
+     * 조건별 여행 계획 필터 조회 (페이징)
+     * 예) /api/tours/filter?startDate=2025-08-01&endDate=2025-08-31&budget=low&minTravelers=2&maxDays=3&page=0&size=20
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> filterTours(
+            @ModelAttribute TourFilterDto filter,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Page<TourDto> result = tourService.filterTours(filter, page, size);
+        return ResponseUtil.pagedSuccess(result.getContent(), result.getNumber(), result.getSize(), result.getTotalElements());
     }
 
     /**
@@ -3,9 +3,11 @@ package com.example.tour_backend.controller;
 import com.example.tour_backend.domain.thread.ThreadRepository;
 import com.example.tour_backend.dto.thread.ThreadDto;
 import com.example.tour_backend.dto.user.*;
+import com.example.tour_backend.util.JsonArrayStreamer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import com.example.tour_backend.service.UserService;
 
 
@@ -21,6 +23,7 @@ import java.util.stream.Collectors;
 public class UserController {
     private final UserService userService;
     private final ThreadRepository threadRepository;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
     // 회원가입
     @PostMapping("/register")
@@ -69,10 +72,9 @@ public class UserController {
     }
 
 
-    @GetMapping
-    public ResponseEntity<List<UserResponseDto>> getAllUsers() {
-        List<UserResponseDto> users = userService.getAllUsers();
-        return ResponseEntity.ok(users);
+    @GetMapping // 모든 회원 조회 (목록을 모으지 않고 스트리밍)
+    public ResponseEntity<StreamingResponseBody> getAllUsers() {
+        return jsonArrayStreamer.array(userService::streamAllUsers);
     }
 
 
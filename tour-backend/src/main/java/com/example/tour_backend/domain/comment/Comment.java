@@ -7,13 +7,19 @@ import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import com.example.tour_backend.domain.thread.Thread;
+import com.example.tour_backend.util.CommentPath;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "comment")
+@Table(name = "comment", indexes = {
+        // 댓글 커서 페이지 (최상위 댓글 / 특정 댓글의 대댓글, 작성 순)
+        @Index(name = "idx_comment_thread_parent", columnList = "thread_id, parent_id, create_date"),
+        // 하위 트리/전위 순서 조회 (path 범위)
+        @Index(name = "idx_comment_thread_path", columnList = "thread_id, path")
+})
 @NoArgsConstructor
 @Getter
 @Setter
@@ -49,6 +55,13 @@ public class Comment {
     @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL)
     private List<Comment> children = new ArrayList<>();
 
+    // 루트부터의 경로 (CommentPath, 저장 직후 ID로 채움 / 기존 행은 CommentPathBackfill이 채움)
+    @Column(length = CommentPath.MAX_LENGTH, columnDefinition = "VARCHAR(800) CHARACTER SET ascii COLLATE ascii_bin")
+    private String path;
+
+    // 루트 = 0
+    private Integer depth;
+
     // 📝 댓글 작성자
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
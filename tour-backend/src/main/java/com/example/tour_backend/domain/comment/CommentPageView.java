@@ -0,0 +1,8 @@
+package com.example.tour_backend.domain.comment;
+
+/**
+ * 댓글 페이지용 프로젝션 (직계 대댓글 수 포함)
+ */
+public interface CommentPageView extends CommentView {
+    long getReplyCount();
+}
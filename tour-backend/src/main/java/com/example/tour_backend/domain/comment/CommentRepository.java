@@ -1,7 +1,11 @@
 package com.example.tour_backend.domain.comment;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -14,4 +18,81 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     // ✅ 추가: 사용자 ID로 댓글 조회 (알림 삭제를 위해)
     List<Comment> findByUser_UserId(Long userId);
+
+    // 여러 게시글의 댓글을 한 번에 (전체 목록 스트리밍의 묶음 단위 조회, 작성 순)
+    @Query("SELECT c FROM Comment c WHERE c.thread.threadId IN :threadIds ORDER BY c.commentId")
+    List<Comment> findByThreadIds(@Param("threadIds") Collection<Long> threadIds);
+
+    // 게시글의 모든 댓글 (트리는 서비스에서 parentId로 조립, 작성 순)
+    @Query("SELECT c.commentId AS commentId, p.commentId AS parentId, c.user.userId AS userId, " +
+            "c.author AS author, c.comment AS comment, c.createDate AS createDate, c.modifiedDate AS modifiedDate, " +
+            "c.depth AS depth FROM Comment c LEFT JOIN c.parent p WHERE c.thread.threadId = :threadId ORDER BY c.commentId")
+    List<CommentView> findViewsByThreadId(@Param("threadId") Long threadId);
+
+    // ===== 경로(path) 범위 조회 (idx_comment_thread_path) =====
+    String PATH_SELECT = "SELECT c.commentId AS commentId, p.commentId AS parentId, c.user.userId AS userId, " +
+            "c.author AS author, c.comment AS comment, c.createDate AS createDate, c.modifiedDate AS modifiedDate, " +
+            "c.depth AS depth FROM Comment c LEFT JOIN c.parent p ";
+
+    // 게시글 전체를 트리 전위 순서로 (depth로 들여쓰기)
+    @Query(PATH_SELECT + "WHERE c.thread.threadId = :threadId AND c.path IS NOT NULL ORDER BY c.path")
+    List<CommentView> findViewsInPathOrder(@Param("threadId") Long threadId);
+
+    // 하위 트리 (자기 자신 포함, 전위 순서) - path 범위 [from, to)
+    @Query(PATH_SELECT + "WHERE c.thread.threadId = :threadId AND c.path >= :from AND c.path < :to ORDER BY c.path")
+    List<CommentView> findSubtreeViews(@Param("threadId") Long threadId,
+                                       @Param("from") String from,
+                                       @Param("to") String to);
+
+    // 하위 댓글 수 (자기 자신 제외)
+    @Query("SELECT COUNT(c) FROM Comment c WHERE c.thread.threadId = :threadId AND c.path > :from AND c.path < :to")
+    long countDescendants(@Param("threadId") Long threadId,
+                          @Param("from") String from,
+                          @Param("to") String to);
+
+    // 하위 트리 삭제 시 회원별 댓글 수 차감용 [userId, 개수] (자기 자신 포함)
+    @Query("SELECT c.user.userId, COUNT(c) FROM Comment c WHERE c.thread.threadId = :threadId " +
+            "AND c.path >= :from AND c.path < :to GROUP BY c.user.userId")
+    List<Object[]> countSubtreeByUser(@Param("threadId") Long threadId,
+                                      @Param("from") String from,
+                                      @Param("to") String to);
+
+    // ===== 댓글 커서 페이지 (작성 순: createDate, commentId 오름차순 / idx_comment_thread_parent) =====
+    String PAGE_SELECT = "SELECT c.commentId AS commentId, p.commentId AS parentId, c.user.userId AS userId, " +
+            "c.author AS author, c.comment AS comment, c.createDate AS createDate, c.modifiedDate AS modifiedDate, " +
+            "c.depth AS depth, (SELECT COUNT(r) FROM Comment r WHERE r.parent.commentId = c.commentId) AS replyCount " +
+            "FROM Comment c LEFT JOIN c.parent p ";
+    // 커서는 마지막으로 받은 댓글 ID, 작성시각은 PK로 다시 읽음
+    String CURSOR_DATE = "(SELECT x.createDate FROM Comment x WHERE x.commentId = :cursorId)";
+    String PAGE_AFTER = "AND (:cursorId IS NULL OR c.createDate > " + CURSOR_DATE +
+            " OR (c.createDate = " + CURSOR_DATE + " AND c.commentId > :cursorId)) ORDER BY c.createDate, c.commentId";
+
+    // 최상위 댓글
+    @Query(PAGE_SELECT + "WHERE c.thread.threadId = :threadId AND c.parent IS NULL " + PAGE_AFTER)
+    List<CommentPageView> findTopLevelPage(@Param("threadId") Long threadId,
+                                           @Param("cursorId") Long cursorId,
+                                           Pageable pageable);
+
+    // 특정 댓글의 직계 대댓글 (threadId도 조건에 넣어 같은 인덱스 사용)
+    @Query(PAGE_SELECT + "WHERE c.thread.threadId = :threadId AND p.commentId = :parentId " + PAGE_AFTER)
+    List<CommentPageView> findRepliesPage(@Param("threadId") Long threadId,
+                                          @Param("parentId") Long parentId,
+                                          @Param("cursorId") Long cursorId,
+                                          Pageable pageable);
+
+    // 여러 부모 댓글의 앞부분 대댓글 ID (부모마다 작성 순 :limit개)
+    @Query(value = "SELECT r.comment_id FROM (" +
+            "SELECT c.comment_id, ROW_NUMBER() OVER (PARTITION BY c.parent_id ORDER BY c.create_date, c.comment_id) AS rn " +
+            "FROM comment c WHERE c.thread_id = :threadId AND c.parent_id IN (:parentIds)) r " +
+            "WHERE r.rn <= :limit", nativeQuery = true)
+    List<Long> findFirstReplyIds(@Param("threadId") Long threadId,
+                                 @Param("parentIds") Collection<Long> parentIds,
+                                 @Param("limit") int limit);
+
+    @Query(PAGE_SELECT + "WHERE c.commentId IN :commentIds ORDER BY c.createDate, c.commentId")
+    List<CommentPageView> findPageViewsByIds(@Param("commentIds") Collection<Long> commentIds);
+
+    // 게시글 삭제 시 회원별 댓글 수 차감용 [userId, 개수]
+    @Query("SELECT c.user.userId, COUNT(c) FROM Comment c WHERE c.thread.threadId = :threadId GROUP BY c.user.userId")
+    List<Object[]> countByUserForThread(@Param("threadId") Long threadId);
 }
\ No newline at end of file
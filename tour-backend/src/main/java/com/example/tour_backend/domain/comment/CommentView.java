@@ -0,0 +1,17 @@
+package com.example.tour_backend.domain.comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 트리 조회용 프로젝션 (게시글의 모든 댓글을 한 번에, 부모/작성자는 FK 컬럼만 사용)
+ */
+public interface CommentView {
+    Long getCommentId();
+    Long getParentId();
+    Long getUserId();
+    String getAuthor();
+    String getComment();
+    LocalDateTime getCreateDate();
+    LocalDateTime getModifiedDate();
+    Integer getDepth();
+}
@@ -1,6 +1,7 @@
 package com.example.tour_backend.domain.notification;
 
 import com.example.tour_backend.domain.comment.Comment;
+import com.example.tour_backend.domain.tour.Tour;
 import com.example.tour_backend.domain.user.User;
 import jakarta.persistence.*;
 import lombok.*;
@@ -12,7 +13,15 @@ import org.hibernate.annotations.OnDeleteAction;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notification")
+@Table(name = "notification",
+        // 안 읽은 알림 수 COUNT(*)를 인덱스만으로 계산 (InnoDB 보조 인덱스는 PK 포함)
+        indexes = {
+                @Index(name = "idx_notification_user_read", columnList = "user_id, is_read"),
+                // 보존 기간 정리 (NotificationRetentionPurger가 오래된 순으로 청크 삭제)
+                @Index(name = "idx_notification_read_date", columnList = "is_read, create_date"),
+                // 안 읽은 알림 묶음 upsert 대상 (읽으면 group_key = NULL → 다음 알림은 새 행)
+                @Index(name = "uk_notification_group", columnList = "group_key", unique = true)
+        })
 @Getter @Setter
 @NoArgsConstructor
 public class Notification {
@@ -25,32 +34,56 @@ public class Notification {
     @JoinColumn(name = "userId", nullable = false)
     private User user; // 수신자
 
-    // 관련 게시물
+    // 알림 종류 (댓글 / 여행 리마인더)
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private NotificationType type = NotificationType.COMMENT;
+
+    // 관련 게시물 (댓글 알림)
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "threadId", nullable = false)
+    @JoinColumn(name = "threadId")
     private Thread thread;
 
-    // 관련 댓글
+    // 관련 댓글 (댓글 알림, 묶음의 첫 댓글) - 댓글이 삭제돼도 알림은 게시글 알림으로 남음
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "commentId", nullable = false)
-    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JoinColumn(name = "commentId", foreignKey = @ForeignKey(name = "fk_notification_comment"))
+    @OnDelete(action = OnDeleteAction.SET_NULL)
     private Comment comment;
 
+    // 관련 여행 계획 (여행 리마인더)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tourId")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Tour tour;
+
     @Column(nullable = false, length = 225)
     private String message;
 
     @Column(nullable = false)
     private boolean isRead = false;
 
+    // 묶음 키 (수신자·게시글·종류·시간 구간, CommentNotificationFanout 참고) - 읽으면 NULL
+    @Column(length = 100)
+    private String groupKey;
+
+    // 묶인 알림을 만든 서로 다른 회원 수(NotificationActor 기준)와 최근 회원 이름 (최신순, 쉼표 구분)
+    @Column(nullable = false, columnDefinition = "INT NOT NULL DEFAULT 1")
+    private int actorCount = 1;
+
+    @Column(length = 255)
+    private String actors;
+
     @CreationTimestamp
     private LocalDateTime createDate;
 
     @Builder
-    public Notification(User user, Thread thread, Comment comment,
+    public Notification(User user, NotificationType type, Thread thread, Comment comment, Tour tour,
                         String message, boolean isRead, LocalDateTime createDate) {
         this.user = user;
+        this.type = type != null ? type : NotificationType.COMMENT;
         this.thread = thread;
         this.comment = comment;
+        this.tour = tour;
         this.message = message;
         this.isRead = isRead;
         this.createDate = createDate;
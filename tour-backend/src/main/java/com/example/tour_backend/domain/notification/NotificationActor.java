@@ -0,0 +1,30 @@
+package com.example.tour_backend.domain.notification;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+// 묶음 알림에 댓글을 남긴 회원 (서로 다른 회원 수 집계용, CommentNotificationFanout이 SQL로 기록)
+@Entity
+@Table(name = "notification_actor", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_notification_actor", columnNames = {"notice_id", "actor_id"})
+})
+@Getter
+@NoArgsConstructor
+public class NotificationActor {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 알림이 삭제되면 함께 삭제
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "notice_id", nullable = false, foreignKey = @ForeignKey(name = "fk_notification_actor_notice"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Notification notification;
+
+    // 댓글 작성 회원 ID
+    @Column(name = "actor_id", nullable = false)
+    private Long actorId;
+}
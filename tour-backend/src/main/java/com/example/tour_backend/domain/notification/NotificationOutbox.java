@@ -0,0 +1,43 @@
+package com.example.tour_backend.domain.notification;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 아웃박스 (도메인 변경과 같은 트랜잭션에서 기록, NotificationOutboxDispatcher가 발송 후 삭제)
+ * - 여러 서버가 SELECT ... FOR UPDATE SKIP LOCKED로 나눠 처리
+ * - 실패 시 attempts 증가 + next_attempt_at을 지수 백오프로 미룸, max-attempts에 도달하면 남겨 둠(수동 확인)
+ */
+@Entity
+@Table(name = "notification_outbox",
+        indexes = @Index(name = "idx_notification_outbox_due", columnList = "next_attempt_at, id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload; // 이벤트 JSON
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime createDate;
+}
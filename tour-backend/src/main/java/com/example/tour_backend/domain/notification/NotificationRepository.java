@@ -1,11 +1,70 @@
 package com.example.tour_backend.domain.notification;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     List<Notification> findByUserUserIdOrderByCreateDateDesc(Long userId);
+
+    // SSE 재개/푸시용: 마지막으로 받은 알림 이후 것만 (noticeId 오름차순)
+    List<Notification> findByUserUserIdAndNoticeIdGreaterThanOrderByNoticeIdAsc(Long userId, Long noticeId, Pageable pageable);
+
+    @Query("SELECT MAX(n.noticeId) FROM Notification n WHERE n.user.userId = :userId")
+    Long findMaxNoticeIdByUserId(@Param("userId") Long userId);
+
+    // 묶음 알림 갱신분 SSE 푸시용
+    List<Notification> findByGroupKeyIn(Collection<String> groupKeys);
+
+    // 안 읽은 알림 수 (idx_notification_user_read)
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.userId = :userId AND n.isRead = false")
+    long countUnreadByUserId(@Param("userId") Long userId);
+
+    // 조건부 읽음 처리 (동시 요청에도 한 번만 1 반환), 묶음도 닫음
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.groupKey = null WHERE n.noticeId = :noticeId AND n.isRead = false")
+    int markRead(@Param("noticeId") Long noticeId);
+
+    // 일괄 작업 대상 중 안 읽은 알림이 있는 회원 (안 읽은 알림 수 캐시 갱신용)
+    @Query("SELECT DISTINCT n.user.userId FROM Notification n WHERE n.noticeId IN :ids AND n.isRead = false")
+    List<Long> findUnreadOwnerIds(@Param("ids") Collection<Long> ids);
+
+    // 일괄 작업 구간 끝: afterId 이후 offset번째 알림 ID (없으면 null → 마지막 구간)
+    @Query(value = "SELECT notice_id FROM notification WHERE user_id = :userId AND is_read = :isRead " +
+                   "AND notice_id > :afterId ORDER BY notice_id LIMIT 1 OFFSET :offset", nativeQuery = true)
+    Long findChunkEnd(@Param("userId") Long userId, @Param("isRead") boolean isRead,
+                      @Param("afterId") long afterId, @Param("offset") int offset);
+
+    // ===== 일괄 작업 (문장 하나 = 트랜잭션 하나, 청크마다 커밋되어 잠금이 짧음) =====
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.groupKey = null WHERE n.noticeId IN :ids AND n.isRead = false")
+    int markReadByIds(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.groupKey = null " +
+           "WHERE n.user.userId = :userId AND n.isRead = false AND n.noticeId > :fromId AND n.noticeId <= :toId")
+    int markReadInRange(@Param("userId") Long userId, @Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.noticeId IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Notification n " +
+           "WHERE n.user.userId = :userId AND n.isRead = true AND n.noticeId > :fromId AND n.noticeId <= :toId")
+    int deleteReadInRange(@Param("userId") Long userId, @Param("fromId") long fromId, @Param("toId") long toId);
+
     // ✅ 수정: 올바른 필드명 사용
     void deleteByComment_CommentId(Long commentId);
 
@@ -0,0 +1,13 @@
+package com.example.tour_backend.domain.notification;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum NotificationType {
+    COMMENT("댓글"),
+    TOUR_REMINDER("여행 알림");
+
+    private final String title;
+}
@@ -0,0 +1,46 @@
+package com.example.tour_backend.domain.place;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 장소 사전 (Google placeId 기준)
+ * - 여행 계획(planData)의 locationData는 placeId만 저장하고 상세 정보는 이 테이블에서 조회
+ */
+@Entity
+@Table(name = "place")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Place {
+    @Id
+    @Column(length = 255)
+    private String placeId;
+
+    private String name;
+
+    @Column(length = 500)
+    private String address;
+
+    private Double lat;
+    private Double lng;
+    private Double rating;
+
+    @Column(columnDefinition = "TEXT")
+    private String photoUrl;
+
+    @Column(length = 1000)
+    private String googleMapLink;
+
+    @CreationTimestamp
+    private LocalDateTime createDate;
+
+    @UpdateTimestamp
+    private LocalDateTime modifiedDate;
+}
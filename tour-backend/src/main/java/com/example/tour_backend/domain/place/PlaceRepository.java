@@ -0,0 +1,13 @@
+package com.example.tour_backend.domain.place;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface PlaceRepository extends JpaRepository<Place, String> {
+
+    // 자동완성용 [placeId, name, rating]
+    @Query("SELECT p.placeId, p.name, p.rating FROM Place p WHERE p.name IS NOT NULL")
+    List<Object[]> findAllNames();
+}
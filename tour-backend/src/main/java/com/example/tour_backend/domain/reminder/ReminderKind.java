@@ -0,0 +1,6 @@
+package com.example.tour_backend.domain.reminder;
+
+public enum ReminderKind {
+    BEFORE_START, // 출발 N일 전
+    DAY_MORNING   // 일정이 있는 날 아침
+}
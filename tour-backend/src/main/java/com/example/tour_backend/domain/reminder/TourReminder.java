@@ -0,0 +1,51 @@
+package com.example.tour_backend.domain.reminder;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 여행 리마인더 예약
+ * - (tourId, kind, remindDate) 유니크 → 재계획/재시작 시 중복 생성 방지
+ * - sent 플래그를 조건부 UPDATE로 바꾼 경우에만 알림 발송 → 중복 발송 방지
+ */
+@Entity
+@Table(name = "tour_reminder",
+        uniqueConstraints = @UniqueConstraint(name = "uk_tour_reminder", columnNames = {"tour_id", "kind", "remind_date"}),
+        indexes = @Index(name = "idx_tour_reminder_due", columnList = "sent, fire_at, id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TourReminder {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long tourId;
+
+    @Column(nullable = false)
+    private Long userId; // 수신자 (여행 계획 작성자)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReminderKind kind;
+
+    @Column(nullable = false)
+    private LocalDate remindDate;
+
+    @Column(nullable = false)
+    private LocalDateTime fireAt;
+
+    @Column(nullable = false, length = 225)
+    private String message;
+
+    @Column(nullable = false)
+    private boolean sent;
+
+    private LocalDateTime sentAt;
+}
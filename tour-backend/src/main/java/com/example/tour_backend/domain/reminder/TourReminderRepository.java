@@ -0,0 +1,39 @@
+package com.example.tour_backend.domain.reminder;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TourReminderRepository extends JpaRepository<TourReminder, Long> {
+
+    /**
+     * 발송 대기 리마인더를 (fireAt, id) 키셋으로 페이지 단위 조회
+     */
+    @Query("SELECT r FROM TourReminder r WHERE r.sent = false AND r.fireAt < :until " +
+            "AND (r.fireAt > :afterFireAt OR (r.fireAt = :afterFireAt AND r.id > :afterId)) " +
+            "ORDER BY r.fireAt, r.id")
+    List<TourReminder> findDue(@Param("afterFireAt") LocalDateTime afterFireAt,
+                               @Param("afterId") Long afterId,
+                               @Param("until") LocalDateTime until,
+                               Pageable pageable);
+
+    /**
+     * 미발송 상태일 때만 발송 처리 (1이면 이번 호출이 발송 담당)
+     */
+    @Modifying
+    @Query("UPDATE TourReminder r SET r.sent = true, r.sentAt = :now WHERE r.id = :id AND r.sent = false")
+    int markSent(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM TourReminder r WHERE r.tourId = :tourId AND r.sent = false")
+    int deleteUnsentByTourId(@Param("tourId") Long tourId);
+
+    @Modifying
+    @Query("DELETE FROM TourReminder r WHERE r.tourId = :tourId")
+    int deleteByTourId(@Param("tourId") Long tourId);
+}
@@ -2,6 +2,7 @@ package com.example.tour_backend.domain.thread;
 
 import com.example.tour_backend.domain.comment.Comment;
 import com.example.tour_backend.domain.user.User;
+import com.example.tour_backend.util.AreaNormalizer;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -12,7 +13,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "thread")
+@Table(name = "thread", indexes = {
+        // 게시판 커서 페이지 (GET /api/thread?size=...)
+        @Index(name = "idx_thread_area_id", columnList = "area_key, thread_id"),
+        @Index(name = "idx_thread_count", columnList = "count, thread_id"),
+        @Index(name = "idx_thread_heart", columnList = "heart, thread_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -36,13 +42,20 @@ public class Thread {
     @Column(nullable = false)
     private String author;
 
+    // 조회수는 ThreadViewCounter의 "count = count + ?" UPDATE로만 증가 (엔티티 저장 시 덮어쓰지 않음)
+    @Column(updatable = false)
     private int count = 0;
+    // 좋아요/댓글 수는 CounterService의 "col = col + ?" UPDATE와 정합성 작업으로만 변경 (엔티티 저장 시 덮어쓰지 않음)
+    @Column(updatable = false)
     private int heart = 0;
-
-
+    @Column(updatable = false)
     private int commentCount = 0;
     private String area;
 
+    // 지역 정규화 키 (필터/지역별 집계용, 저장 시 area에서 계산)
+    @Column(name = "area_key")
+    private String areaKey;
+
     @CreationTimestamp
     private LocalDateTime createDate;
 
@@ -60,4 +73,9 @@ public class Thread {
     @Column(name = "file_path")
     private List<String> filePaths = new ArrayList<>();// 파일 업로드
 
+    @PrePersist
+    @PreUpdate
+    private void updateAreaKey() {
+        this.areaKey = AreaNormalizer.normalize(area);
+    }
 }
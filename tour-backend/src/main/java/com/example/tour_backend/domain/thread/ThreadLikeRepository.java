@@ -2,8 +2,10 @@ package com.example.tour_backend.domain.thread;
 
 import com.example.tour_backend.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +23,22 @@ public interface ThreadLikeRepository extends JpaRepository<ThreadLike, Long> {
     // 만약 Thread만 반환하고 싶다면 (JPQL)
     @Query("SELECT tl.thread FROM ThreadLike tl WHERE tl.user.userId = :userId")
     List<Thread> findThreadsByUserId(@Param("userId") Long userId);
+
+    // 주어진 게시글 중 사용자가 좋아요 누른 게시글 ID (uk (user_id, thread_id) 인덱스만 사용)
+    @Query("SELECT tl.thread.threadId FROM ThreadLike tl " +
+            "WHERE tl.user.userId = :userId AND tl.thread.threadId IN :threadIds")
+    List<Long> findLikedThreadIds(@Param("userId") Long userId, @Param("threadIds") Collection<Long> threadIds);
+
+    // 좋아요 추가 - 이미 있으면 유니크 키 충돌을 무시 (반환값: 실제 추가된 행 수 0/1)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO thread_like (user_id, thread_id) VALUES (:userId, :threadId)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("threadId") Long threadId);
+
+    // 좋아요 취소 - 반환값: 실제 삭제된 행 수 0/1
+    @Modifying
+    @Query("DELETE FROM ThreadLike tl WHERE tl.user.userId = :userId AND tl.thread.threadId = :threadId")
+    int deleteByUserIdAndThreadId(@Param("userId") Long userId, @Param("threadId") Long threadId);
 }
 
 //좋아요 여부 체크 및 취소할 수 있도록 쿼리 메서드 제공
\ No newline at end of file
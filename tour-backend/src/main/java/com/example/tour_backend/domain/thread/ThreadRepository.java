@@ -1,12 +1,17 @@
 package com.example.tour_backend.domain.thread;
 
-
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
-import org.springframework.data.domain.Sort;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ThreadRepository extends JpaRepository<Thread, Long> {
     // 게시물 검색 기능 추추추추가
@@ -15,14 +20,86 @@ public interface ThreadRepository extends JpaRepository<Thread, Long> {
     List<Thread> searchByTitleOrContent(@Param("keyword") String keyword);
 
     // 또는 간단히 메서드 이름으로도 가능
-    List<Thread> findByTitleContainingOrContentContaining(String titleKeyword, String contentKeyword, Sort sort);
-    List<Thread> findByAuthorContaining(String author, Sort sort); //(수정함)
+    List<Thread> findByTitleContainingOrContentContaining(String titleKeyword, String contentKeyword, Pageable pageable);
+    List<Thread> findByAuthorContaining(String author, Pageable pageable); //(수정함)
     // ✅ 추가: 사용자 ID로 게시글 삭제
     void deleteByUser_UserId(Long userId);
 
     // ✅ 추가: 사용자 ID로 게시글 조회 (알림 삭제를 위해)
     List<Thread> findByUser_UserId(Long userId); //??
 
+    // ===== 게시판 커서 페이지 (본문/댓글 없이 목록 컬럼만 조회) =====
+    String SUMMARY_SELECT = "SELECT t.threadId AS threadId, t.user.userId AS userId, t.title AS title, " +
+            "t.author AS author, t.count AS count, t.heart AS heart, t.commentCount AS commentCount, " +
+            "t.area AS area, t.createDate AS createDate, t.modifiedDate AS modifiedDate FROM Thread t ";
+
+    // 지역 조건은 정규화 키(AreaNormalizer)로 비교
+    // 최신순: threadId 내림차순 (PK / idx_thread_area_id)
+    @Query(SUMMARY_SELECT +
+            "WHERE (:areaKey IS NULL OR t.areaKey = :areaKey) AND (:cursorId IS NULL OR t.threadId < :cursorId) " +
+            "ORDER BY t.threadId DESC")
+    List<ThreadSummaryView> findLatestPage(@Param("areaKey") String areaKey,
+                                           @Param("cursorId") Long cursorId,
+                                           Pageable pageable);
+
+    // 조회수순: (count, threadId) 내림차순 (idx_thread_count)
+    @Query(SUMMARY_SELECT +
+            "WHERE (:areaKey IS NULL OR t.areaKey = :areaKey) AND (:cursorId IS NULL OR t.count < :cursorValue " +
+            "OR (t.count = :cursorValue AND t.threadId < :cursorId)) " +
+            "ORDER BY t.count DESC, t.threadId DESC")
+    List<ThreadSummaryView> findMostViewedPage(@Param("areaKey") String areaKey,
+                                               @Param("cursorValue") Integer cursorValue,
+                                               @Param("cursorId") Long cursorId,
+                                               Pageable pageable);
+
+    // 좋아요순: (heart, threadId) 내림차순 (idx_thread_heart)
+    @Query(SUMMARY_SELECT +
+            "WHERE (:areaKey IS NULL OR t.areaKey = :areaKey) AND (:cursorId IS NULL OR t.heart < :cursorValue " +
+            "OR (t.heart = :cursorValue AND t.threadId < :cursorId)) " +
+            "ORDER BY t.heart DESC, t.threadId DESC")
+    List<ThreadSummaryView> findMostLikedPage(@Param("areaKey") String areaKey,
+                                              @Param("cursorValue") Integer cursorValue,
+                                              @Param("cursorId") Long cursorId,
+                                              Pageable pageable);
+
+    // ID 목록으로 목록 컬럼 조회 (인기 게시글 등, 순서는 호출자가 맞춤)
+    @Query(SUMMARY_SELECT + "WHERE t.threadId IN :threadIds")
+    List<ThreadSummaryView> findSummariesByIds(@Param("threadIds") Collection<Long> threadIds);
+
+    // 좋아요 변경 전 게시글 행 잠금 (heart UPDATE도 같은 행을 잠그므로 대기가 늘지 않음, 없으면 빈 값)
+    @Query(value = "SELECT thread_id FROM thread WHERE thread_id = :threadId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockForLike(@Param("threadId") Long threadId);
+
+    // 검색 결과 정렬용 ([threadId, createDate, count, heart], 본문 없이)
+    @Query("SELECT t.threadId, t.createDate, t.count, t.heart FROM Thread t WHERE t.threadId IN :threadIds")
+    List<Object[]> findSortKeysByIds(@Param("threadIds") Collection<Long> threadIds);
+
+    // 한 페이지 게시글의 첨부파일 경로를 한 번에 조회 ([threadId, filePath])
+    @Query("SELECT t.threadId, f FROM Thread t JOIN t.filePaths f WHERE t.threadId IN :threadIds")
+    List<Object[]> findFilePathsByThreadIds(@Param("threadIds") Collection<Long> threadIds);
+
+    // 지역 집계 동기화용 [threadId, area, areaKey, modifiedDate]
+    @Query("SELECT t.threadId, t.area, t.areaKey, t.modifiedDate FROM Thread t")
+    List<Object[]> findAllAreas();
+
+    // 인기 게시글 초기 점수용 [threadId, area, count, heart, commentCount, createDate]
+    @Query("SELECT t.threadId, t.area, t.count, t.heart, t.commentCount, t.createDate FROM Thread t " +
+            "WHERE t.createDate >= :since")
+    List<Object[]> findActivitySince(@Param("since") LocalDateTime since);
+
+    // 검색 색인 동기화용 [threadId, modifiedDate] (본문 제외)
+    @Query("SELECT t.threadId, t.modifiedDate FROM Thread t")
+    List<Object[]> findAllModifiedDates();
+
+    // 전체 목록 스트리밍용 키셋 페이지 (lastId 다음부터, 페이지마다 결과를 닫아 묶음별 첨부파일/댓글 조회와 겹치지 않음)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT t FROM Thread t WHERE t.threadId > :lastId ORDER BY t.threadId")
+    List<Thread> findPageAfter(@Param("lastId") Long lastId, Pageable limit);
+
+    // 자동완성 초기화용 [threadId, title, count, heart, commentCount]
+    @Query("SELECT t.threadId, t.title, t.count, t.heart, t.commentCount FROM Thread t")
+    List<Object[]> findAllTitleStats();
+
 
 
 }
\ No newline at end of file
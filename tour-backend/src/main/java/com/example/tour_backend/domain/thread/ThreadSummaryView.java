@@ -0,0 +1,19 @@
+package com.example.tour_backend.domain.thread;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시판 목록용 프로젝션 (본문/댓글 제외, 작성자는 FK 컬럼만 사용)
+ */
+public interface ThreadSummaryView {
+    Long getThreadId();
+    Long getUserId();
+    String getTitle();
+    String getAuthor();
+    int getCount();
+    int getHeart();
+    int getCommentCount();
+    String getArea();
+    LocalDateTime getCreateDate();
+    LocalDateTime getModifiedDate();
+}
@@ -0,0 +1,30 @@
+package com.example.tour_backend.domain.thread;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 게시글 점수 저장본 (재시작 시 메모리 순위 복원용, 주기적으로 전체 교체)
+ */
+@Entity
+@Table(name = "thread_trending_score")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ThreadTrendingScore {
+    @Id
+    private Long threadId;
+
+    private String area;
+
+    // scoredAt 시점의 감쇠 반영 점수
+    @Column(nullable = false)
+    private double score;
+
+    @Column(nullable = false)
+    private LocalDateTime scoredAt;
+}
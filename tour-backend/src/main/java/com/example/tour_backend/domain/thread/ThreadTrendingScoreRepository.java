@@ -0,0 +1,6 @@
+package com.example.tour_backend.domain.thread;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ThreadTrendingScoreRepository extends JpaRepository<ThreadTrendingScore, Long> {
+}
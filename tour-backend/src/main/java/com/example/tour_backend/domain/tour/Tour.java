@@ -5,13 +5,20 @@ import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 @Entity
-@Table(name = "tour")
+@Table(name = "tour", indexes = {
+        // 날짜 겹침 + 예산/인원/기간 필터 (GET /api/tours/filter)
+        @Index(name = "idx_tour_budget_dates", columnList = "budget, start_date, end_date, travelers"),
+        @Index(name = "idx_tour_dates", columnList = "start_date, end_date, total_days"),
+        // 사용자별 월간 캘린더 (GET /api/tours/user/{userId}/calendar)
+        @Index(name = "idx_tour_user_dates", columnList = "user_id, start_date, end_date")
+})
 @NoArgsConstructor
 @Getter
 @Setter
@@ -36,6 +43,9 @@ public class Tour {
     @Column(nullable = false)
     private Integer travelers;
 
+    // 여행 일수 (필터 인덱스용 파생 컬럼, startDate/endDate 변경 시 자동 갱신)
+    private Integer totalDays;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private BudgetType budget;
@@ -64,4 +74,12 @@ public class Tour {
         this.createDate = createDate;
         this.modifiedDate = modifiedDate;
     }
+
+    @PrePersist
+    @PreUpdate
+    private void updateTotalDays() {
+        if (startDate != null && endDate != null) {
+            this.totalDays = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.example.tour_backend.domain.tour;
+
+import java.time.LocalDate;
+
+/**
+ * 여행 기간 요약 프로젝션 (planData 제외)
+ */
+public interface TourPeriodView {
+    Long getTourId();
+    String getTitle();
+    LocalDate getStartDate();
+    LocalDate getEndDate();
+}
@@ -1,11 +1,21 @@
 package com.example.tour_backend.domain.tour;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
 import java.util.List;
 
-public interface TourRepository extends JpaRepository<Tour, Long> {
+public interface TourRepository extends JpaRepository<Tour, Long>, JpaSpecificationExecutor<Tour> {
     
     /**
      * 사용자별 여행 계획 조회 (최신순)
@@ -38,4 +48,28 @@ public interface TourRepository extends JpaRepository<Tour, Long> {
      */
     @Query("SELECT t FROM Tour t WHERE t.planData LIKE %:date%")
     List<Tour> findByScheduleDate(@Param("date") String date);
+
+    /**
+     * 전체 목록 스트리밍용 키셋 페이지 (lastId 다음부터, 페이지마다 결과를 닫아 묶음별 장소 조회와 겹치지 않음)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT t FROM Tour t WHERE t.tourId > :lastId ORDER BY t.tourId")
+    List<Tour> findPageAfter(@Param("lastId") Long lastId, Pageable limit);
+
+    /**
+     * 조건 필터 + 페이징 조회 (작성자 함께 조회하여 N+1 방지)
+     */
+    @Override
+    @EntityGraph(attributePaths = "user")
+    Page<Tour> findAll(Specification<Tour> spec, Pageable pageable);
+
+    /**
+     * 사용자의 여행 중 [from, to] 기간과 겹치는 여행 요약 (idx_tour_user_dates 사용)
+     */
+    @Query("SELECT t.tourId AS tourId, t.title AS title, t.startDate AS startDate, t.endDate AS endDate " +
+            "FROM Tour t WHERE t.user.userId = :userId AND t.startDate <= :to AND t.endDate >= :from " +
+            "ORDER BY t.startDate, t.tourId")
+    List<TourPeriodView> findPeriodsOverlapping(@Param("userId") Long userId,
+                                                @Param("from") LocalDate from,
+                                                @Param("to") LocalDate to);
 }
\ No newline at end of file
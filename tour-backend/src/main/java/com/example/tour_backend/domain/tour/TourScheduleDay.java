@@ -0,0 +1,33 @@
+package com.example.tour_backend.domain.tour;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 여행 계획의 날짜별 일정 개수 (planData에서 파생, 캘린더 조회용)
+ * - 여행 생성/수정 시 TourScheduleDayService가 갱신
+ */
+@Entity
+@Table(name = "tour_schedule_day",
+        uniqueConstraints = @UniqueConstraint(name = "uk_tour_schedule_day", columnNames = {"tour_id", "schedule_date"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TourScheduleDay {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long tourId;
+
+    @Column(nullable = false)
+    private LocalDate scheduleDate;
+
+    @Column(nullable = false)
+    private Integer scheduleCount;
+}
@@ -0,0 +1,26 @@
+package com.example.tour_backend.domain.tour;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface TourScheduleDayRepository extends JpaRepository<TourScheduleDay, Long> {
+
+    /**
+     * 여러 여행 계획의 기간 내 날짜별 일정 개수 (uk_tour_schedule_day 인덱스 사용)
+     */
+    @Query("SELECT d FROM TourScheduleDay d WHERE d.tourId IN :tourIds " +
+            "AND d.scheduleDate BETWEEN :from AND :to ORDER BY d.scheduleDate")
+    List<TourScheduleDay> findByTourIdsBetween(@Param("tourIds") Collection<Long> tourIds,
+                                               @Param("from") LocalDate from,
+                                               @Param("to") LocalDate to);
+
+    @Modifying
+    @Query("DELETE FROM TourScheduleDay d WHERE d.tourId = :tourId")
+    int deleteByTourId(@Param("tourId") Long tourId);
+}
@@ -0,0 +1,64 @@
+package com.example.tour_backend.domain.tour;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * Tour 필터 조건 (GET /api/tours/filter)
+ * - 값이 null인 조건은 null을 반환해 조합 시 자동으로 제외됨
+ * - 모든 조건은 idx_tour_budget_dates / idx_tour_dates 인덱스 컬럼만 사용
+ */
+public final class TourSpecifications {
+
+    private TourSpecifications() {
+    }
+
+    /**
+     * [from, to] 기간과 여행 기간이 겹치는 여행
+     */
+    public static Specification<Tour> overlaps(LocalDate from, LocalDate to) {
+        return (root, query, cb) -> {
+            if (from == null && to == null) {
+                return null;
+            }
+            if (from == null) {
+                return cb.lessThanOrEqualTo(root.<LocalDate>get("startDate"), to);
+            }
+            if (to == null) {
+                return cb.greaterThanOrEqualTo(root.<LocalDate>get("endDate"), from);
+            }
+            return cb.and(
+                    cb.lessThanOrEqualTo(root.<LocalDate>get("startDate"), to),
+                    cb.greaterThanOrEqualTo(root.<LocalDate>get("endDate"), from));
+        };
+    }
+
+    public static Specification<Tour> hasBudget(BudgetType budget) {
+        return (root, query, cb) -> budget == null ? null : cb.equal(root.get("budget"), budget);
+    }
+
+    public static Specification<Tour> travelersBetween(Integer min, Integer max) {
+        return (root, query, cb) -> between(cb, root.<Integer>get("travelers"), min, max);
+    }
+
+    public static Specification<Tour> totalDaysBetween(Integer min, Integer max) {
+        return (root, query, cb) -> between(cb, root.<Integer>get("totalDays"), min, max);
+    }
+
+    private static Predicate between(CriteriaBuilder cb, Path<Integer> path, Integer min, Integer max) {
+        if (min == null && max == null) {
+            return null;
+        }
+        if (min == null) {
+            return cb.lessThanOrEqualTo(path, max);
+        }
+        if (max == null) {
+            return cb.greaterThanOrEqualTo(path, min);
+        }
+        return cb.between(path, min, max);
+    }
+}
@@ -43,6 +43,12 @@ public class User {
     @UpdateTimestamp
     private LocalDateTime modifiedDate;
 
+    // 작성한 게시글/댓글 수 (CounterService로만 변경, 엔티티 저장 시 덮어쓰지 않음)
+    @Column(updatable = false)
+    private int threadCount;
+    @Column(updatable = false)
+    private int commentCount;
+
     @OneToMany(mappedBy = "user", cascade = CascadeType.REMOVE, orphanRemoval = true)
     private List<Thread> threads = new ArrayList<>();
 
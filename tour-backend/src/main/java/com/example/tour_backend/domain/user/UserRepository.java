@@ -1,9 +1,14 @@
 package com.example.tour_backend.domain.user;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
@@ -14,4 +19,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // 검색+정렬 지원
     List<User> findByNameContaining(String username, Sort sort);
     List<User> findByEmailContaining(String email, Sort sort);
+
+    // 전체 목록 스트리밍용 (커서로 500건씩 읽음, 호출 측에서 트랜잭션 안에서 닫아야 함)
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT u FROM User u ORDER BY u.userId")
+    Stream<User> streamAll();
 }
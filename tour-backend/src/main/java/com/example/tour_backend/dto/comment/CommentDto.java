@@ -18,6 +18,8 @@ public class CommentDto {
     private Long parentId; // 부모 댓글 ID 추가 7/2
     private List<CommentDto> comments; //7/2 자식 댓글 리스트
     private Long userId;
+    private Integer depth;   // 트리 깊이 (최상위 = 0)
+    private Long replyCount; // 직계 대댓글 수 (comments가 일부만 담긴 페이지 응답에서 "답글 더보기" 판단용)
 
 
 
@@ -0,0 +1,20 @@
+package com.example.tour_backend.dto.comment;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 댓글 커서 페이지 응답
+ * - nextCursor를 다음 요청의 cursor로 그대로 전달 (마지막 페이지면 null)
+ * - 각 댓글의 replyCount와 comments(앞부분 대댓글)로 "답글 더보기" 여부를 판단
+ */
+@Getter @Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentPageDto {
+    private List<CommentDto> comments;
+    private String nextCursor;
+    private boolean hasNext;
+}
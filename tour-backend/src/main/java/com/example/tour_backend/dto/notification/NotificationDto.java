@@ -1,17 +1,23 @@
 package com.example.tour_backend.dto.notification;
 
+import com.example.tour_backend.domain.notification.NotificationType;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 public class NotificationDto {
     private Long noticeId;
     private Long userId;
+    private NotificationType type;
     private Long threadId;
     private Long commentId;
+    private Long tourId;
     private String message;
+    private int actorCount;        // 묶인 알림을 만든 회원 수 ("OO님 외 N명")
+    private List<String> actors;   // 최근 회원 이름 (최신순)
     @JsonProperty("isRead")
     private boolean isRead;
     private LocalDateTime createDate;
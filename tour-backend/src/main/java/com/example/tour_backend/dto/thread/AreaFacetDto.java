@@ -0,0 +1,19 @@
+package com.example.tour_backend.dto.thread;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시판 지역 필터 항목 (지역별 게시글 수 + 최근 활동 시각)
+ */
+@Getter @Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AreaFacetDto {
+    private String areaKey;   // 필터 요청에 쓰는 정규화 키
+    private String label;     // 가장 많이 쓰인 원래 표기
+    private long count;
+    private LocalDateTime lastActivity;
+}
@@ -0,0 +1,17 @@
+package com.example.tour_backend.dto.thread;
+
+import lombok.*;
+
+/**
+ * 검색어 자동완성 항목
+ */
+@Getter @Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionDto {
+    private String type;   // THREAD(게시글 제목) / AREA(지역) / PLACE(장소)
+    private String text;   // 표시 문자열
+    private String value;  // THREAD는 threadId, AREA는 areaKey, PLACE는 placeId
+    private double weight; // 인기도 (정렬 기준)
+}
@@ -0,0 +1,19 @@
+package com.example.tour_backend.dto.thread;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 게시판 커서 페이지 응답
+ * - nextCursor를 다음 요청의 cursor로 그대로 전달 (마지막 페이지면 null)
+ */
+@Getter @Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ThreadPageDto {
+    private List<ThreadDto> threads;
+    private String nextCursor;
+    private boolean hasNext;
+}
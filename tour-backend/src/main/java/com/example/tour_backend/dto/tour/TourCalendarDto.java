@@ -0,0 +1,51 @@
+package com.example.tour_backend.dto.tour;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 월간 캘린더 응답 (여행이나 일정이 있는 날만 포함)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TourCalendarDto {
+    private String month; // yyyy-MM
+    private List<TourSummary> tours;
+    private List<Day> days;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TourSummary {
+        private Long tourId;
+        private String title;
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate startDate;
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate endDate;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Day {
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate date;
+
+        private int tourCount;
+        private List<Long> tourIds;
+        private int scheduleCount;
+    }
+}
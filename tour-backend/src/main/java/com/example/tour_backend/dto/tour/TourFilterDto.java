@@ -0,0 +1,28 @@
+package com.example.tour_backend.dto.tour;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * 여행 계획 필터 조건 (GET /api/tours/filter 쿼리 파라미터)
+ * - 모든 조건은 선택값, 지정된 조건만 AND로 조합
+ */
+@Data
+@NoArgsConstructor
+public class TourFilterDto {
+    // 이 기간과 겹치는 여행만 조회
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate startDate;
+
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate endDate;
+
+    private String budget; // low, medium, high, luxury
+    private Integer minTravelers;
+    private Integer maxTravelers;
+    private Integer minDays;
+    private Integer maxDays;
+}
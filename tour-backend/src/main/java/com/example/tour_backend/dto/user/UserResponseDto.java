@@ -24,6 +24,8 @@ public class UserResponseDto {
     private Role role;
     private LocalDateTime createDate;
     private LocalDateTime modifiedDate;
+    private int threadCount;   // 작성한 게시글 수
+    private int commentCount;  // 작성한 댓글 수
 
     /**
      * 엔티티 → DTO 변환용 생성자
@@ -40,6 +42,8 @@ public class UserResponseDto {
         this.role         = u.getRole();
         this.createDate   = u.getCreateDate();
         this.modifiedDate = u.getModifiedDate();
+        this.threadCount  = u.getThreadCount();
+        this.commentCount = u.getCommentCount();
     }
 
     /**
@@ -56,7 +60,9 @@ public class UserResponseDto {
                 u.getNickname(),
                 u.getRole(),
                 u.getCreateDate(),
-                u.getModifiedDate()
+                u.getModifiedDate(),
+                u.getThreadCount(),
+                u.getCommentCount()
         );
     }
 }
@@ -0,0 +1,22 @@
+package com.example.tour_backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글이 새로 저장됨 (댓글과 같은 트랜잭션에서 알림 아웃박스에 기록 → NotificationOutboxDispatcher가 알림 저장)
+ * - 알림 수신자를 다시 조회하지 않도록 저장 시점에 이미 읽은 ID를 담음
+ */
+@Getter
+@RequiredArgsConstructor
+public class CommentCreatedEvent {
+    private final Long threadId;
+    private final Long commentId;
+    private final Long authorId;
+    private final String author;
+    private final Long threadAuthorId;    // 게시글 작성자 (없으면 null)
+    private final Long parentAuthorId;    // 대댓글이면 부모 댓글 작성자, 아니면 null
+    private final LocalDateTime createDate;
+}
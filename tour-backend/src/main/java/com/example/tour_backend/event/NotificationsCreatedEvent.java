@@ -0,0 +1,25 @@
+package com.example.tour_backend.event;
+
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 알림이 새로 저장됨 (커밋 후 SSE 구독자에게 밀어주는 데 사용)
+ * - 알림 내용은 담지 않고 수신 회원 ID만 전달 → 구독 중인 회원만 DB에서 새 알림을 읽음
+ * - 기존 묶음 행에 합쳐졌을 수 있는 알림은 groupKeys로 전달 (새 noticeId가 생기지 않으므로 따로 다시 읽음)
+ */
+@Getter
+public class NotificationsCreatedEvent {
+    private final Set<Long> userIds;
+    private final Set<String> groupKeys;
+
+    public NotificationsCreatedEvent(Set<Long> userIds) {
+        this(userIds, Set.of());
+    }
+
+    public NotificationsCreatedEvent(Set<Long> userIds, Set<String> groupKeys) {
+        this.userIds = userIds;
+        this.groupKeys = groupKeys;
+    }
+}
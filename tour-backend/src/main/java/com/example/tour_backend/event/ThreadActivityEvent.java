@@ -0,0 +1,20 @@
+package com.example.tour_backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 활동 (조회/좋아요/댓글) - 인기 게시글 점수 갱신에 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class ThreadActivityEvent {
+
+    public enum Type {
+        VIEW, LIKE, UNLIKE, COMMENT
+    }
+
+    private final Long threadId;
+    private final String area;
+    private final Type type;
+}
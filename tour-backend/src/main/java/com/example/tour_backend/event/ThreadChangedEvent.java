@@ -0,0 +1,13 @@
+package com.example.tour_backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 생성/수정/삭제됨 (커밋 후 검색 색인을 갱신하는 데 사용)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ThreadChangedEvent {
+    private final Long threadId;
+}
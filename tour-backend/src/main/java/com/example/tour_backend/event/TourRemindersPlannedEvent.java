@@ -0,0 +1,16 @@
+package com.example.tour_backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여행 리마인더가 새로 계획됨 (커밋 후 스케줄러가 적재 구간을 되감는 데 사용)
+ */
+@Getter
+@RequiredArgsConstructor
+public class TourRemindersPlannedEvent {
+    private final Long tourId;
+    private final LocalDateTime earliestFireAt;
+}
@@ -0,0 +1,29 @@
+package com.example.tour_backend.event;
+
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 읽음 처리/삭제로 안 읽은 알림 수가 줄어듦 (커밋 후 UnreadNotificationCounter가 반영)
+ * - 단건은 증감(deltas), 일괄 작업은 정확한 증감 대신 해당 회원 값을 다시 세도록(resetUserIds) 전달
+ */
+@Getter
+public class UnreadCountChangedEvent {
+    private final Map<Long, Long> deltas;   // 회원 ID → 증감 (음수)
+    private final Set<Long> resetUserIds;   // 다시 셀 회원 ID
+
+    public UnreadCountChangedEvent(Map<Long, Long> deltas) {
+        this(deltas, Set.of());
+    }
+
+    private UnreadCountChangedEvent(Map<Long, Long> deltas, Set<Long> resetUserIds) {
+        this.deltas = deltas;
+        this.resetUserIds = resetUserIds;
+    }
+
+    public static UnreadCountChangedEvent reset(Set<Long> userIds) {
+        return new UnreadCountChangedEvent(Map.of(), userIds);
+    }
+}
@@ -1,6 +1,7 @@
 
 package com.example.tour_backend.exception;
 
+import com.example.tour_backend.util.tour.ScheduleValidator;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -8,6 +9,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -23,6 +25,21 @@ public class GlobalExceptionHandler {
         return createErrorResponse(HttpStatus.NOT_FOUND, "TOUR_NOT_FOUND", ex.getMessage());
     }
 
+    @ExceptionHandler(PlaceNotFoundException.class)
+    public ResponseEntity<Map<String, Object>> handlePlaceNotFound(PlaceNotFoundException ex) {
+        log.warn("Place not found: {}", ex.getMessage());
+        return createErrorResponse(HttpStatus.NOT_FOUND, "PLACE_NOT_FOUND", ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidScheduleDataException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidScheduleData(InvalidScheduleDataException ex) {
+        log.warn("Invalid schedule data: {} violation(s)", ex.getViolations().size());
+        ResponseEntity<Map<String, Object>> response =
+                createErrorResponse(HttpStatus.BAD_REQUEST, "INVALID_SCHEDULE_DATA", ex.getMessage());
+        response.getBody().put("errors", ex.getViolations());
+        return response;
+    }
+
     @ExceptionHandler(InvalidTourDataException.class)
     public ResponseEntity<Map<String, Object>> handleInvalidTourData(InvalidTourDataException ex) {
         log.warn("Invalid tour data: {}", ex.getMessage());
@@ -81,12 +98,34 @@ public class GlobalExceptionHandler {
         }
     }
 
+    public static class PlaceNotFoundException extends RuntimeException {
+        public PlaceNotFoundException(String placeId) {
+            super("장소가 존재하지 않습니다. placeId: " + placeId);
+        }
+    }
+
     public static class InvalidTourDataException extends RuntimeException {
         public InvalidTourDataException(String message) {
             super(message);
         }
     }
 
+    /**
+     * 일정 항목 검증 실패 - 항목별 오류 경로(schedules[i].field) 포함
+     */
+    public static class InvalidScheduleDataException extends InvalidTourDataException {
+        private final List<ScheduleValidator.Violation> violations;
+
+        public InvalidScheduleDataException(List<ScheduleValidator.Violation> violations) {
+            super("일정 데이터가 올바르지 않습니다. (" + violations.size() + "건)");
+            this.violations = violations;
+        }
+
+        public List<ScheduleValidator.Violation> getViolations() {
+            return violations;
+        }
+    }
+
     public static class JsonProcessingException extends RuntimeException {
         public JsonProcessingException(String message, Throwable cause) {
             super(message, cause);
@@ -0,0 +1,237 @@
+package com.example.tour_backend.service;
+
+import com.example.tour_backend.domain.thread.Thread;
+import com.example.tour_backend.domain.thread.ThreadRepository;
+import com.example.tour_backend.dto.thread.AreaFacetDto;
+import com.example.tour_backend.event.ThreadActivityEvent;
+import com.example.tour_backend.event.ThreadChangedEvent;
+import com.example.tour_backend.util.AreaNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 게시판 지역 필터 (지역별 게시글 수 + 최근 활동 시각)
+ * - 게시글 생성/수정/삭제 이벤트로 메모리 집계를 증분 갱신, 조회는 메모리에서만 처리
+ * - 지역은 정규화 키(AreaNormalizer)로 묶고, 표시 이름은 가장 많이 쓰인 원래 표기
+ * - 주기적으로 DB 전체와 다시 맞추고, area_key가 비어 있거나 다른 행은 이때 채움
+ *   (DB 읽기/보정은 잠금 밖에서 하고, 새 집계로 교체할 때만 잠시 잠금)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AreaFacetService {
+    // 읽은 뒤 지역이 바뀐 게시글은 건드리지 않음
+    private static final String UPDATE_KEY_SQL = "UPDATE thread SET area_key = ? WHERE thread_id = ? AND area <=> ?";
+
+    private final ThreadRepository threadRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 모든 접근은 this 잠금 안에서 (갱신 빈도가 낮아 단순 동기화로 충분)
+    private Map<String, Facet> facets = new HashMap<>();
+    private Map<Long, String> threadAreas = new HashMap<>(); // threadId → 원래 표기 (감소 처리용)
+    // 재집계 중 바뀐 게시글의 최신 상태 (교체 시 새 집계에 다시 반영), 재집계 중이 아니면 null
+    private Map<Long, Change> changedDuringReconcile;
+
+    /**
+     * 지역 목록 (게시글 수 내림차순)
+     */
+    public synchronized List<AreaFacetDto> getFacets() {
+        List<AreaFacetDto> result = new ArrayList<>(facets.size());
+        facets.forEach((key, facet) -> result.add(AreaFacetDto.builder()
+                .areaKey(key)
+                .label(facet.label())
+                .count(facet.count)
+                .lastActivity(facet.lastActivity)
+                .build()));
+        result.sort(Comparator.comparingLong(AreaFacetDto::getCount).reversed()
+                .thenComparing(AreaFacetDto::getAreaKey));
+        return result;
+    }
+
+    /**
+     * 게시글 변경 반영 (커밋 후 최신 상태를 읽어 이전 지역과 비교)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onThreadChanged(ThreadChangedEvent event) {
+        try {
+            Optional<Thread> thread = threadRepository.findById(event.getThreadId());
+            synchronized (this) {
+                Change change = thread
+                        .map(t -> new Change(t.getArea(), t.getModifiedDate()))
+                        .orElse(Change.DELETED);
+                apply(facets, threadAreas, event.getThreadId(), change);
+                if (changedDuringReconcile != null) {
+                    changedDuringReconcile.put(event.getThreadId(), change);
+                }
+            }
+        } catch (Exception e) {
+            log.error("지역 집계 갱신 실패: threadId={}", event.getThreadId(), e);
+        }
+    }
+
+    /**
+     * 댓글도 지역의 최근 활동으로 취급
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivity(ThreadActivityEvent event) {
+        if (event.getType() != ThreadActivityEvent.Type.COMMENT) {
+            return;
+        }
+        String key = AreaNormalizer.normalize(event.getArea());
+        if (key == null) {
+            return;
+        }
+        synchronized (this) {
+            Facet facet = facets.get(key);
+            if (facet != null) {
+                facet.touch(LocalDateTime.now());
+            }
+        }
+    }
+
+    /**
+     * DB 기준 재집계 (시작 시 + 주기적)
+     * - 전체 조회는 잠금 없이 하고(조회/이벤트 처리를 막지 않음), 그 사이 들어온 게시글 변경은 기록해 두었다가
+     *   교체할 때 새 집계에 다시 반영 → 이벤트가 옛 집계에만 반영되고 사라지지 않음
+     * - 자동완성(ThreadTypeaheadService)이 시작 시 지역 목록을 읽으므로 먼저 실행
+     */
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${thread.area-facet.reconcile-interval-ms:600000}",
+            initialDelayString = "${thread.area-facet.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        synchronized (this) {
+            if (changedDuringReconcile != null) {
+                return; // 이미 재집계 중
+            }
+            changedDuringReconcile = new HashMap<>();
+        }
+        try {
+            Map<String, Facet> rebuilt = new HashMap<>();
+            Map<Long, String> areas = new HashMap<>();
+            List<Object[]> staleKeys = new ArrayList<>();
+
+            for (Object[] row : threadRepository.findAllAreas()) {
+                // [threadId, area, areaKey, modifiedDate]
+                Long threadId = (Long) row[0];
+                String area = (String) row[1];
+                String key = AreaNormalizer.normalize(area);
+                if (!Objects.equals(key, row[2])) {
+                    staleKeys.add(new Object[]{key, threadId, area});
+                }
+                if (key != null) {
+                    areas.put(threadId, area);
+                    increment(rebuilt, area, (LocalDateTime) row[3]);
+                }
+            }
+
+            synchronized (this) {
+                // 읽는 동안 바뀐 게시글은 이벤트가 읽은 최신 상태로 다시 반영
+                changedDuringReconcile.forEach((threadId, change) -> apply(rebuilt, areas, threadId, change));
+                // 댓글로 갱신된 최근 활동 시각은 유지
+                rebuilt.forEach((key, facet) -> {
+                    Facet old = facets.get(key);
+                    if (old != null) {
+                        facet.touch(old.lastActivity);
+                    }
+                });
+                facets = rebuilt;
+                threadAreas = areas;
+            }
+
+            if (!staleKeys.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_KEY_SQL, staleKeys, 500, (ps, row) -> {
+                    ps.setString(1, (String) row[0]);
+                    ps.setLong(2, (Long) row[1]);
+                    ps.setString(3, (String) row[2]);
+                });
+            }
+            log.debug("지역 집계 재계산: 지역 {}개, 게시글 {}건, area_key 보정 {}건",
+                    rebuilt.size(), areas.size(), staleKeys.size());
+        } finally {
+            synchronized (this) {
+                changedDuringReconcile = null;
+            }
+        }
+    }
+
+    // 게시글 하나의 이전 지역을 빼고 현재 지역을 더함
+    private void apply(Map<String, Facet> target, Map<Long, String> areas, Long threadId, Change change) {
+        String previous = areas.remove(threadId);
+        if (previous != null) {
+            decrement(target, previous);
+        }
+        if (AreaNormalizer.normalize(change.area) != null) {
+            areas.put(threadId, change.area);
+            increment(target, change.area, change.modifiedDate);
+        }
+    }
+
+    private void increment(Map<String, Facet> target, String area, LocalDateTime activity) {
+        Facet facet = target.computeIfAbsent(AreaNormalizer.normalize(area), k -> new Facet());
+        facet.count++;
+        facet.labels.merge(area.trim(), 1, Integer::sum);
+        facet.touch(activity);
+    }
+
+    private void decrement(Map<String, Facet> target, String area) {
+        String key = AreaNormalizer.normalize(area);
+        Facet facet = target.get(key);
+        if (facet == null) {
+            return;
+        }
+        facet.count--;
+        facet.labels.computeIfPresent(area.trim(), (label, count) -> count > 1 ? count - 1 : null);
+        if (facet.count <= 0) {
+            target.remove(key);
+        }
+    }
+
+    private static final class Change {
+        private static final Change DELETED = new Change(null, null);
+
+        private final String area;
+        private final LocalDateTime modifiedDate;
+
+        private Change(String area, LocalDateTime modifiedDate) {
+            this.area = area;
+            this.modifiedDate = modifiedDate;
+        }
+    }
+
+    private static final class Facet {
+        private long count;
+        private LocalDateTime lastActivity;
+        private final Map<String, Integer> labels = new HashMap<>(); // 원래 표기별 사용 횟수
+
+        private void touch(LocalDateTime time) {
+            if (time != null && (lastActivity == null || time.isAfter(lastActivity))) {
+                lastActivity = time;
+            }
+        }
+
+        private String label() {
+            return labels.entrySet().stream()
+                    .max(Map.Entry.<String, Integer>comparingByValue()
+                            .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                    .map(Map.Entry::getKey)
+                    .orElse(null);
+        }
+    }
+}
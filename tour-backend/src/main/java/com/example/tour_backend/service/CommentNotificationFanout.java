@@ -0,0 +1,166 @@
+package com.example.tour_backend.service;
+
+import com.example.tour_backend.domain.notification.NotificationType;
+import com.example.tour_backend.event.CommentCreatedEvent;
+import com.example.tour_backend.event.NotificationsCreatedEvent;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 알림 저장 (NotificationOutboxDispatcher가 아웃박스에서 꺼낸 CommentCreatedEvent를 배치로 전달)
+ * - 게시글 작성자에게 "댓글", 부모 댓글 작성자에게 "답글" 알림 (본인 댓글·중복 수신자는 제외)
+ * - 같은 수신자·게시글·종류의 안 읽은 알림은 coalesce.window-minutes 구간 안에서 한 행으로 합침
+ *   ("OO님 외 N명이 댓글을 남겼습니다.") → 행 수가 댓글 수가 아니라 묶음 수만큼만 늘어남
+ * - 인원 수는 notification_actor(알림, 회원 ID 유니크)로 센 서로 다른 회원 수 → 이름 목록(최근 MAX_ACTORS명)에서 밀려난 회원이 다시 와도 중복 집계 없음
+ * - 묶음 구간은 댓글 작성 시각 기준 → 재시도로 같은 이벤트를 다시 반영해도 같은 행에 합쳐지고 같은 회원은 다시 세지 않음
+ * - comment_id는 묶음의 첫 댓글 유지 (FK ON DELETE SET NULL → 댓글 하나를 지워도 묶음 알림은 남음, 비어 있으면 다음 댓글로 채움)
+ * - 댓글/수신자가 그사이 삭제됐으면 해당 알림은 건너뜀
+ * - 저장 후 NotificationsCreatedEvent로 SSE 구독자에게 알림 (호출 트랜잭션 커밋 후)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommentNotificationFanout {
+    private static final int MAX_ACTORS = 5;
+    private static final String COMMENT_ACTION = "댓글을 남겼습니다.";
+    private static final String REPLY_ACTION = "답글을 남겼습니다.";
+
+    // 같은 묶음 키의 안 읽은 행이 있으면 한 행으로 합침
+    // - actors: 새 회원을 맨 앞으로, 기존 위치에서는 빼고 최대 MAX_ACTORS명
+    // - create_date: 최신 댓글 시각 (목록 최상단), comment_id는 첫 댓글 유지 (삭제돼 비었을 때만 채움)
+    // - actor_count/message는 회원 기록 후 REFRESH_SQL에서 계산
+    private static final String UPSERT_SQL =
+            "INSERT INTO notification (user_id, type, thread_id, comment_id, message, is_read, create_date, " +
+            "                          group_key, actor_count, actors) " +
+            "SELECT ?, ?, ?, ?, CONCAT(?, '님이 ', ?), FALSE, ?, ?, 1, ? FROM DUAL " +
+            "WHERE EXISTS (SELECT 1 FROM comment c WHERE c.comment_id = ?) " +
+            "AND EXISTS (SELECT 1 FROM users u WHERE u.user_id = ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "actors = LEFT(SUBSTRING_INDEX(CONCAT_WS(',', VALUES(actors), NULLIF(TRIM(BOTH ',' FROM " +
+            "         REPLACE(CONCAT(',', actors, ','), CONCAT(',', VALUES(actors), ','), ','))), '')), ',', " + MAX_ACTORS + "), 255), " +
+            "comment_id = COALESCE(comment_id, VALUES(comment_id)), " +
+            "create_date = GREATEST(create_date, VALUES(create_date))";
+
+    // 묶음 행에 댓글 작성 회원 기록 (이미 있으면 무시 → 재전송·재방문 회원은 다시 세지 않음)
+    private static final String ACTOR_SQL =
+            "INSERT IGNORE INTO notification_actor (notice_id, actor_id) " +
+            "SELECT n.notice_id, ? FROM notification n WHERE n.group_key = ?";
+
+    // 서로 다른 회원 수로 인원/문장 갱신 (SET은 왼쪽부터 적용되므로 message는 갱신된 actor_count 사용)
+    // - 회원 기록 이전에 만들어진 행은 기존 값보다 줄이지 않음
+    private static final String REFRESH_SQL =
+            "UPDATE notification n SET " +
+            "n.actor_count = GREATEST(n.actor_count, " +
+            "    (SELECT COUNT(*) FROM notification_actor a WHERE a.notice_id = n.notice_id)), " +
+            "n.message = CONCAT(SUBSTRING_INDEX(n.actors, ',', 1), " +
+            "    IF(n.actor_count > 1, CONCAT('님 외 ', n.actor_count - 1, '명이 '), '님이 '), ?) " +
+            "WHERE n.group_key = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 같은 게시글의 안 읽은 알림을 한 행으로 합치는 시간 구간 (분)
+    @Value("${notification.coalesce.window-minutes:60}")
+    private long coalesceWindowMinutes;
+
+    /**
+     * 댓글 이벤트들의 알림을 배치 upsert (실패 시 예외 → 호출자가 재시도)
+     * @return 저장(또는 합쳐진) 알림 수
+     */
+    public int deliver(List<CommentCreatedEvent> events) {
+        List<Pending> batch = new ArrayList<>();
+        for (CommentCreatedEvent event : events) {
+            addRecipients(event, batch);
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        int[][] results = jdbcTemplate.batchUpdate(UPSERT_SQL, batch, batch.size(), (ps, p) -> {
+            ps.setLong(1, p.getUserId());
+            ps.setString(2, NotificationType.COMMENT.name());
+            ps.setLong(3, p.getThreadId());
+            ps.setLong(4, p.getCommentId());
+            ps.setString(5, p.getActor());
+            ps.setString(6, p.getAction());
+            ps.setTimestamp(7, Timestamp.valueOf(p.getCreateDate()));
+            ps.setString(8, p.getGroupKey());
+            ps.setString(9, p.getActor());
+            ps.setLong(10, p.getCommentId());
+            ps.setLong(11, p.getUserId());
+        });
+        jdbcTemplate.batchUpdate(ACTOR_SQL, batch, batch.size(), (ps, p) -> {
+            ps.setLong(1, p.getActorId());
+            ps.setString(2, p.getGroupKey());
+        });
+        // 묶음 키마다 한 번 (키에 종류가 들어 있으므로 문구도 하나)
+        Map<String, String> actions = new LinkedHashMap<>();
+        batch.forEach(p -> actions.put(p.getGroupKey(), p.getAction()));
+        jdbcTemplate.batchUpdate(REFRESH_SQL, new ArrayList<>(actions.entrySet()), actions.size(), (ps, entry) -> {
+            ps.setString(1, entry.getValue());
+            ps.setString(2, entry.getKey());
+        });
+        int saved = 0;
+        for (int[] chunk : results) {
+            for (int updated : chunk) {
+                saved += updated > 0 ? 1 : 0; // 합쳐진 행은 2로 집계됨
+            }
+        }
+        log.debug("댓글 알림 저장: {}/{}건", saved, batch.size());
+
+        // 드라이버가 건별 결과를 주지 않을 수 있으므로(SUCCESS_NO_INFO) 배치 수신자 전체에 알림
+        Set<Long> userIds = batch.stream().map(Pending::getUserId).collect(Collectors.toSet());
+        Set<String> groupKeys = batch.stream().map(Pending::getGroupKey).collect(Collectors.toSet());
+        eventPublisher.publishEvent(new NotificationsCreatedEvent(userIds, groupKeys));
+        return saved;
+    }
+
+    private void addRecipients(CommentCreatedEvent event, List<Pending> batch) {
+        LocalDateTime createDate = event.getCreateDate() != null ? event.getCreateDate() : LocalDateTime.now();
+        String actor = event.getAuthor().replace(",", " "); // actors 구분자
+        Long parentAuthorId = event.getParentAuthorId();
+        if (parentAuthorId != null && !parentAuthorId.equals(event.getAuthorId())) {
+            batch.add(new Pending(parentAuthorId, event.getThreadId(), event.getCommentId(),
+                    event.getAuthorId(), actor, REPLY_ACTION, groupKey("R", parentAuthorId, event.getThreadId(), createDate), createDate));
+        }
+        Long threadAuthorId = event.getThreadAuthorId();
+        if (threadAuthorId != null && !threadAuthorId.equals(event.getAuthorId())
+                && !threadAuthorId.equals(parentAuthorId)) {
+            batch.add(new Pending(threadAuthorId, event.getThreadId(), event.getCommentId(),
+                    event.getAuthorId(), actor, COMMENT_ACTION, groupKey("C", threadAuthorId, event.getThreadId(), createDate), createDate));
+        }
+    }
+
+    private String groupKey(String kind, Long userId, Long threadId, LocalDateTime createDate) {
+        long bucket = createDate.atZone(ZoneId.systemDefault()).toEpochSecond() / 60 / Math.max(coalesceWindowMinutes, 1);
+        return kind + ":" + userId + ":" + threadId + ":" + bucket;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Pending {
+        private final Long userId;
+        private final Long threadId;
+        private final Long commentId;
+        private final Long actorId;
+        private final String actor;
+        private final String action;
+        private final String groupKey;
+        private final LocalDateTime createDate;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.tour_backend.service;
+
+import com.example.tour_backend.util.CommentPath;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 댓글 경로(path/depth) 백필
+ * - 경로 컬럼 추가 전 댓글과, 부모 경로가 없던 시점에 달린 대댓글을 채움
+ * - 한 번의 패스에서 최상위 댓글과 "부모 경로가 이미 있는" 대댓글을 comment_id 구간별로 채움
+ *   → 패스마다 한 단계씩 내려가며 더 채울 행이 없을 때까지 반복
+ * - 경로 형식은 CommentPath와 같음 (36진수 8자리, 소문자) - LPAD는 긴 값을 잘라내므로 CommentPath.MAX_ID 이하만 채움
+ * - 끝까지 채우지 못한 행(MAX_DEPTH보다 깊은 대댓글 등)은 건수와 일부 ID를 경고 로그로 남김
+ *   (새 댓글은 CommentService가 조상 경로를 먼저 채우고 깊이를 제한하므로 이런 행이 새로 생기지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommentPathBackfill {
+    private static final String SEGMENT_SQL =
+            "LPAD(LOWER(CONV(c.comment_id, 10, 36)), " + CommentPath.SEGMENT_WIDTH + ", '0')";
+    private static final String ROOT_SQL =
+            "UPDATE comment c SET c.path = " + SEGMENT_SQL + ", c.depth = 0 " +
+            "WHERE c.path IS NULL AND c.parent_id IS NULL AND c.comment_id > ? AND c.comment_id <= ?";
+    private static final String CHILD_SQL =
+            "UPDATE comment c JOIN comment p ON p.comment_id = c.parent_id " +
+            "SET c.path = CONCAT(p.path, " + SEGMENT_SQL + "), c.depth = p.depth + 1 " +
+            "WHERE c.path IS NULL AND p.path IS NOT NULL AND p.depth < " + CommentPath.MAX_DEPTH + " " +
+            "AND c.comment_id > ? AND c.comment_id <= ?";
+
+    private static final String REMAINING_SQL = "SELECT COUNT(*) FROM comment WHERE path IS NULL";
+    private static final String REMAINING_IDS_SQL =
+            "SELECT comment_id FROM comment WHERE path IS NULL ORDER BY comment_id LIMIT 20";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${comment.path.backfill-batch-size:5000}")
+    private int batchSize;
+
+    /**
+     * @return 채운 댓글 수
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${comment.path.backfill-interval-ms:3600000}",
+            initialDelayString = "${comment.path.backfill-interval-ms:3600000}")
+    public int backfill() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(comment_id) FROM comment WHERE path IS NULL", Long.class);
+        if (maxId == null) {
+            return 0;
+        }
+        maxId = Math.min(maxId, CommentPath.MAX_ID);
+
+        long started = System.currentTimeMillis();
+        int filled = 0;
+        int passes = 0;
+        int updated;
+        do {
+            updated = 0;
+            for (long from = 0; from < maxId; from += batchSize) {
+                long to = Math.min(from + batchSize, maxId);
+                updated += jdbcTemplate.update(ROOT_SQL, from, to);
+                updated += jdbcTemplate.update(CHILD_SQL, from, to);
+            }
+            filled += updated;
+            passes++;
+        } while (updated > 0 && passes <= CommentPath.MAX_DEPTH);
+
+        log.info("댓글 경로 백필: {}건 ({}회 반복, {}ms)", filled, passes, System.currentTimeMillis() - started);
+
+        Long remaining = jdbcTemplate.queryForObject(REMAINING_SQL, Long.class);
+        if (remaining != null && remaining > 0) {
+            log.warn("댓글 경로를 채우지 못한 댓글 {}건 (최대 깊이 {} 초과 또는 ID 범위 초과), 예: {}", remaining,
+                    CommentPath.MAX_DEPTH, jdbcTemplate.queryForList(REMAINING_IDS_SQL, Long.class));
+        }
+        return filled;
+    }
+}
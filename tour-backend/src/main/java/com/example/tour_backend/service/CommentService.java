@@ -1,28 +1,48 @@
 package com.example.tour_backend.service;
 
 import com.example.tour_backend.domain.comment.Comment;
+import com.example.tour_backend.domain.comment.CommentPageView;
 import com.example.tour_backend.domain.comment.CommentRepository;
+import com.example.tour_backend.domain.comment.CommentView;
 import com.example.tour_backend.domain.thread.Thread;
 import com.example.tour_backend.domain.thread.ThreadRepository;
 import com.example.tour_backend.domain.user.User;
 import com.example.tour_backend.domain.user.UserRepository;
 import com.example.tour_backend.dto.comment.CommentDto;
+import com.example.tour_backend.dto.comment.CommentPageDto;
+import com.example.tour_backend.event.CommentCreatedEvent;
+import com.example.tour_backend.event.ThreadActivityEvent;
+import com.example.tour_backend.util.CommentPath;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int DEFAULT_PREVIEW_REPLIES = 3;
+    private static final int MAX_PREVIEW_REPLIES = 10;
+
     private final CommentRepository commentRepository; // 댓글 데이터베이스 접근용 리포지토리
     private final ThreadRepository threadRepository; // 게시글 데이터베이스 접근용 리포지토리
     private final UserRepository userRepository; // ✅ 추가: 사용자 정보 조회용
-    private final NotificationService notificationService; //7/3
+    private final ApplicationEventPublisher eventPublisher;
+    private final CounterService counterService;
+    private final NotificationOutboxService notificationOutboxService;
 
     @Transactional
     public CommentDto addComment(CommentDto dto) {
@@ -48,23 +68,32 @@ public class CommentService {
         // ✅ author 필드 명시적 설정 (빌더에서 자동 설정되지만 확실히 하기 위해)
         comment.setAuthor(user.getUsername());
         // 부모 댓글이 있을 경우 설정 (대댓글 등록 시) 7/2
+        Comment parent = null;
         if (dto.getParentId() != null) {
-            Comment parent = commentRepository.findById(dto.getParentId())
+            parent = commentRepository.findById(dto.getParentId())
                     .orElseThrow(() -> new RuntimeException("부모 댓글이 존재하지 않습니다."));
+            // 백필 전 부모라도 경로를 먼저 채워 깊이 제한을 항상 적용
+            if (CommentPath.depth(ensurePath(parent)) >= CommentPath.MAX_DEPTH) {
+                throw new IllegalArgumentException("대댓글은 " + CommentPath.MAX_DEPTH + "단계까지만 달 수 있습니다.");
+            }
             comment.setParent(parent);
         }
-        // 4. 댓글 저장
+        // 4. 댓글 저장 후 발급된 ID로 경로 설정
         commentRepository.save(comment);
+        comment.setPath(CommentPath.child(parent != null ? parent.getPath() : null, comment.getCommentId()));
+        comment.setDepth(CommentPath.depth(comment.getPath()));
+        counterService.commentAdded(thread.getThreadId(), user.getUserId());
+        eventPublisher.publishEvent(new ThreadActivityEvent(thread.getThreadId(), thread.getArea(), ThreadActivityEvent.Type.COMMENT));
 
-        // ✅ 5. 알림 생성 - null 체크 추가
-        if (thread.getUser() != null) {
-            notificationService.createNotification(
-                    thread.getUser().getUserId(),           // 게시글 작성자
-                    thread.getThreadId(),                   // 게시글 ID
-                    comment.getCommentId(),                 // 댓글 ID
-                    comment.getAuthor() + "님이 댓글을 남겼습니다."
-            );
-        }
+        // ✅ 5. 알림 요청을 같은 트랜잭션에서 아웃박스에 기록 → 커밋 후 NotificationOutboxDispatcher가 발송 (이미 읽은 ID만 전달)
+        notificationOutboxService.commentCreated(new CommentCreatedEvent(
+                thread.getThreadId(),
+                comment.getCommentId(),
+                user.getUserId(),
+                comment.getAuthor(),
+                thread.getUser() != null ? thread.getUser().getUserId() : null,            // 게시글 작성자
+                parent != null && parent.getUser() != null ? parent.getUser().getUserId() : null,  // 부모 댓글 작성자
+                comment.getCreateDate()));
 
         // 6. 저장 후 DB에서 생성된 댓글ID, 생성일, 수정일을 DTO에 세팅해 반환
         dto.setCommentId(comment.getCommentId());
@@ -77,30 +106,203 @@ public class CommentService {
 
     @Transactional(readOnly = true) // 댓글 목록 조회 (대댓글 포함)7/2
     public List<CommentDto> getComments(Long threadId) {
-        // 부모 댓글만 가져오고, 자식은 DTO 내부에서 트리 구조로 처리
-        List<Comment> parents = commentRepository.findByThread_ThreadIdAndParentIsNull(threadId);
-        return parents.stream().map(this::convertToDtoWithChildren).collect(Collectors.toList());
+        // 게시글의 모든 댓글을 쿼리 1번으로 읽고 트리는 메모리에서 조립 (댓글 수와 관계없이 쿼리 1번)
+        List<CommentDto> flat = commentRepository.findViewsByThreadId(threadId).stream()
+                .map(view -> toDto(threadId, view))
+                .collect(Collectors.toList());
+        return assembleTree(flat);
     }
-    private CommentDto convertToDtoWithChildren(Comment comment) {
-        CommentDto dto = new CommentDto();
-        dto.setCommentId(comment.getCommentId());
-        dto.setThreadId(comment.getThread().getThreadId());
-        dto.setAuthor(comment.getAuthor()); // ✅ getAuthor() 메서드 사용
-        dto.setComment(comment.getComment());
-        dto.setCreateDate(comment.getCreateDate());
-        dto.setModifiedDate(comment.getModifiedDate());
-        dto.setParentId(comment.getParent() != null ? comment.getParent().getCommentId() : null);
-        dto.setUserId(comment.getUser() != null ? comment.getUser().getUserId() : null); // ✅ userId 설정
 
-        // 대댓글 재귀적으로 처리
-        List<CommentDto> children = comment.getChildren().stream()
-                .map(this::convertToDtoWithChildren)
+    /**
+     * 최상위 댓글 커서 페이지 (각 댓글에 직계 대댓글 수 + 앞부분 대댓글 replies개)
+     * - 최상위 1번 + 대댓글 ID 1번 + 대댓글 내용 1번, 페이지 크기와 관계없이 쿼리 3번
+     * @param cursor  이전 응답의 nextCursor (첫 페이지는 null)
+     * @param replies 댓글마다 미리 담을 대댓글 수 (0이면 담지 않음)
+     */
+    @Transactional(readOnly = true)
+    public CommentPageDto getCommentPage(Long threadId, String cursor, Integer size, Integer replies) {
+        int pageSize = clamp(size, DEFAULT_PAGE_SIZE, 1, MAX_PAGE_SIZE);
+        int previewSize = clamp(replies, DEFAULT_PREVIEW_REPLIES, 0, MAX_PREVIEW_REPLIES);
+        List<CommentPageView> rows = commentRepository.findTopLevelPage(threadId, parseCursor(cursor),
+                PageRequest.of(0, pageSize + 1));
+        CommentPageDto page = toPage(threadId, rows, pageSize);
+
+        List<Long> parentIds = page.getComments().stream()
+                .filter(dto -> dto.getReplyCount() > 0)
+                .map(CommentDto::getCommentId)
                 .collect(Collectors.toList());
+        if (previewSize > 0 && !parentIds.isEmpty()) {
+            List<Long> replyIds = commentRepository.findFirstReplyIds(threadId, parentIds, previewSize);
+            if (!replyIds.isEmpty()) {
+                Map<Long, CommentDto> byId = new HashMap<>();
+                page.getComments().forEach(dto -> byId.put(dto.getCommentId(), dto));
+                for (CommentPageView reply : commentRepository.findPageViewsByIds(replyIds)) {
+                    byId.get(reply.getParentId()).getComments().add(toDto(threadId, reply));
+                }
+            }
+        }
+        return page;
+    }
+
+    /**
+     * 특정 댓글의 직계 대댓글 커서 페이지 ("답글 더보기")
+     * - 앞부분은 getCommentPage에서 이미 받았으므로 마지막으로 받은 대댓글 ID를 cursor로 이어서 요청 가능
+     */
+    @Transactional(readOnly = true)
+    public CommentPageDto getReplyPage(Long commentId, String cursor, Integer size) {
+        Comment parent = commentRepository.findById(commentId)
+                .orElseThrow(() -> new RuntimeException("댓글이 존재하지 않습니다."));
+        Long threadId = parent.getThread().getThreadId();
+        int pageSize = clamp(size, DEFAULT_PAGE_SIZE, 1, MAX_PAGE_SIZE);
+        List<CommentPageView> rows = commentRepository.findRepliesPage(threadId, commentId, parseCursor(cursor),
+                PageRequest.of(0, pageSize + 1));
+        return toPage(threadId, rows, pageSize);
+    }
+
+    // pageSize + 1건을 조회했으므로 남는 1건으로 다음 페이지 여부 판단
+    private CommentPageDto toPage(Long threadId, List<CommentPageView> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+        List<CommentDto> comments = rows.stream()
+                .map(row -> toDto(threadId, row))
+                .collect(Collectors.toList());
+        String nextCursor = hasNext ? String.valueOf(rows.get(rows.size() - 1).getCommentId()) : null;
+        return CommentPageDto.builder()
+                .comments(comments)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 커서 형식: 마지막으로 받은 댓글 ID (작성 순 정렬 위치는 쿼리에서 그 댓글의 작성시각으로 계산)
+    private Long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+
+    private int clamp(Integer value, int defaultValue, int min, int max) {
+        return value == null ? defaultValue : Math.min(Math.max(value, min), max);
+    }
+
+    /**
+     * 게시글 전체 댓글을 트리 전위 순서로 (부모 바로 아래에 자식, depth로 들여쓰기) - path 인덱스 범위 쿼리 1번
+     */
+    @Transactional(readOnly = true)
+    public List<CommentDto> getCommentsInOrder(Long threadId) {
+        return commentRepository.findViewsInPathOrder(threadId).stream()
+                .map(view -> toDto(threadId, view))
+                .collect(Collectors.toList());
+    }
 
-        dto.setComments(children);
+    /**
+     * 하위 트리 (자기 자신 포함, 전위 순서) - path 범위 쿼리 1번
+     */
+    @Transactional(readOnly = true)
+    public List<CommentDto> getSubtree(Long commentId) {
+        Comment comment = findWithPath(commentId);
+        Long threadId = comment.getThread().getThreadId();
+        return commentRepository.findSubtreeViews(threadId, comment.getPath(), CommentPath.rangeEnd(comment.getPath()))
+                .stream()
+                .map(view -> toDto(threadId, view))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 하위 댓글 수 (모든 깊이, 자기 자신 제외)
+     */
+    @Transactional(readOnly = true)
+    public long countDescendants(Long commentId) {
+        Comment comment = findWithPath(commentId);
+        return commentRepository.countDescendants(comment.getThread().getThreadId(),
+                comment.getPath(), CommentPath.rangeEnd(comment.getPath()));
+    }
+
+    private Comment findWithPath(Long commentId) {
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new RuntimeException("댓글이 존재하지 않습니다."));
+        if (comment.getPath() == null) {
+            throw new RuntimeException("댓글 경로가 아직 준비되지 않았습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return comment;
+    }
+
+    /**
+     * 경로가 없는 댓글(백필 전)은 경로가 있는 조상까지 올라간 뒤 위에서부터 채움 (변경 감지로 함께 저장)
+     * @return 댓글 경로
+     */
+    private String ensurePath(Comment comment) {
+        Deque<Comment> missing = new ArrayDeque<>();
+        Comment current = comment;
+        while (current != null && current.getPath() == null) {
+            if (missing.size() > CommentPath.MAX_DEPTH) {
+                // 경로로 표현할 수 없는 깊이 → 더 달 수 없음
+                throw new IllegalArgumentException("대댓글은 " + CommentPath.MAX_DEPTH + "단계까지만 달 수 있습니다.");
+            }
+            missing.push(current);
+            current = current.getParent();
+        }
+        String path = current != null ? current.getPath() : null;
+        while (!missing.isEmpty()) {
+            Comment ancestor = missing.pop();
+            path = CommentPath.child(path, ancestor.getCommentId());
+            ancestor.setPath(path);
+            ancestor.setDepth(CommentPath.depth(path));
+        }
+        return path;
+    }
+
+    private CommentDto toDto(Long threadId, CommentPageView view) {
+        CommentDto dto = toDto(threadId, (CommentView) view);
+        dto.setReplyCount(view.getReplyCount());
         return dto;
     }
 
+    private CommentDto toDto(Long threadId, CommentView view) {
+        CommentDto dto = new CommentDto();
+        dto.setCommentId(view.getCommentId());
+        dto.setThreadId(threadId);
+        dto.setAuthor(view.getAuthor());
+        dto.setComment(view.getComment());
+        dto.setCreateDate(view.getCreateDate());
+        dto.setModifiedDate(view.getModifiedDate());
+        dto.setParentId(view.getParentId());
+        dto.setUserId(view.getUserId());
+        dto.setDepth(view.getDepth());
+        dto.setComments(new ArrayList<>());
+        return dto;
+    }
+
+    /**
+     * parentId 해시맵으로 대댓글 트리 조립 - O(n), 재귀 없음 (깊은 트리에서도 스택 사용 일정)
+     * - 입력 순서(작성 순)가 각 단계의 자식 순서가 됨
+     * - 부모를 찾을 수 없는 댓글은 최상위로 취급
+     */
+    static List<CommentDto> assembleTree(List<CommentDto> flat) {
+        Map<Long, CommentDto> byId = new HashMap<>(flat.size() * 2);
+        for (CommentDto dto : flat) {
+            byId.put(dto.getCommentId(), dto);
+        }
+        List<CommentDto> roots = new ArrayList<>();
+        for (CommentDto dto : flat) {
+            CommentDto parent = dto.getParentId() != null ? byId.get(dto.getParentId()) : null;
+            if (parent != null) {
+                parent.getComments().add(dto);
+            } else {
+                roots.add(dto);
+            }
+        }
+        flat.forEach(dto -> dto.setReplyCount((long) dto.getComments().size()));
+        return roots;
+    }
+
 
 
     // ✅ 댓글 수정 - 권한 확인 로직 복원
@@ -139,8 +341,27 @@ public class CommentService {
             throw new AccessDeniedException("본인만 삭제할 수 있습니다.");
         }
 
-        // 3. 댓글 삭제
+        // 3. 댓글 삭제 (대댓글도 cascade로 함께 삭제되므로 작성자별 개수를 먼저 셈)
+        Map<Long, Long> commentsByUser = new HashMap<>();
+        if (comment.getPath() != null) {
+            // 하위 트리 전체를 path 범위 쿼리 1번으로
+            for (Object[] row : commentRepository.countSubtreeByUser(comment.getThread().getThreadId(),
+                    comment.getPath(), CommentPath.rangeEnd(comment.getPath()))) {
+                commentsByUser.put((Long) row[0], (Long) row[1]);
+            }
+        } else {
+            countSubtree(comment, commentsByUser);
+        }
         commentRepository.delete(comment);
+        counterService.commentsRemoved(comment.getThread().getThreadId(), commentsByUser);
+    }
+
+    // 경로가 아직 없는 댓글용 (백필 전)
+    private void countSubtree(Comment comment, Map<Long, Long> commentsByUser) {
+        commentsByUser.merge(comment.getUser().getUserId(), 1L, Long::sum);
+        for (Comment child : comment.getChildren()) {
+            countSubtree(child, commentsByUser);
+        }
     }
 
 
@@ -0,0 +1,70 @@
+package com.example.tour_backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 비정규화 카운터 정합성 작업 (CounterService로 유지하는 값들)
+ * - 대상 테이블 id 구간별로 원본 행 수를 다시 세어 다른 행만 고침 (구간마다 별도 문장 → 긴 잠금 없음)
+ * - 회원 탈퇴 cascade 등 카운터를 거치지 않는 삭제로 생긴 오차를 복구
+ * - 실행 중 커밋된 변경은 드물게 누락될 수 있으나 다음 실행에서 다시 맞춰짐
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CounterReconciler {
+
+    // 카운터 정의 (이름, 대상 테이블, 대상 PK, 카운터 컬럼, 원본 테이블, 원본 FK)
+    private static final List<String[]> COUNTERS = List.of(
+            new String[]{"thread.heart", "thread", "thread_id", "heart", "thread_like", "thread_id"},
+            new String[]{"thread.comment_count", "thread", "thread_id", "comment_count", "comment", "thread_id"},
+            new String[]{"users.thread_count", "users", "user_id", "thread_count", "thread", "user_id"},
+            new String[]{"users.comment_count", "users", "user_id", "comment_count", "comment", "user_id"});
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${counter.reconcile-batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * @return 카운터별 고친 행 수
+     */
+    @Scheduled(cron = "${counter.reconcile-cron:0 30 4 * * *}")
+    public Map<String, Integer> reconcile() {
+        long started = System.currentTimeMillis();
+        Map<String, Integer> fixed = new LinkedHashMap<>();
+        for (String[] counter : COUNTERS) {
+            fixed.put(counter[0], reconcile(counter[1], counter[2], counter[3], counter[4], counter[5]));
+        }
+        log.info("카운터 정합성 작업 완료: {} ({}ms)", fixed, System.currentTimeMillis() - started);
+        return fixed;
+    }
+
+    private int reconcile(String table, String id, String column, String source, String foreignKey) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(" + id + ") FROM " + table, Long.class);
+        if (maxId == null) {
+            return 0;
+        }
+        String sql = "UPDATE " + table + " t " +
+                "LEFT JOIN (SELECT " + foreignKey + " AS id, COUNT(*) AS cnt FROM " + source +
+                "           WHERE " + foreignKey + " > ? AND " + foreignKey + " <= ? GROUP BY " + foreignKey + ") s " +
+                "ON s.id = t." + id + " " +
+                "SET t." + column + " = COALESCE(s.cnt, 0) " +
+                "WHERE t." + id + " > ? AND t." + id + " <= ? AND t." + column + " <> COALESCE(s.cnt, 0)";
+
+        int fixed = 0;
+        for (long from = 0; from < maxId; from += batchSize) {
+            long to = Math.min(from + batchSize, maxId);
+            fixed += jdbcTemplate.update(sql, from, to, from, to);
+        }
+        return fixed;
+    }
+}
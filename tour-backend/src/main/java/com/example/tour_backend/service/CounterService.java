@@ -0,0 +1,69 @@
+package com.example.tour_backend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+/**
+ * 비정규화 카운터 (게시글 좋아요/댓글 수, 회원별 게시글/댓글 수)
+ * - 원본 쓰기와 같은 트랜잭션에서 "col = col + ?" 원자적 UPDATE로만 변경 (MANDATORY → 트랜잭션 밖 호출은 예외)
+ * - 엔티티 쪽 컬럼은 updatable = false라 엔티티 저장이 카운터를 덮어쓰지 않음
+ * - 회원 탈퇴 cascade 등 여기를 거치지 않는 삭제로 생긴 오차는 CounterReconciler가 복구
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class CounterService {
+    private static final String THREAD_HEART_SQL =
+            "UPDATE thread SET heart = GREATEST(heart + ?, 0) WHERE thread_id = ?";
+    private static final String THREAD_COMMENT_SQL =
+            "UPDATE thread SET comment_count = GREATEST(comment_count + ?, 0) WHERE thread_id = ?";
+    private static final String USER_THREAD_SQL =
+            "UPDATE users SET thread_count = GREATEST(thread_count + ?, 0) WHERE user_id = ?";
+    private static final String USER_COMMENT_SQL =
+            "UPDATE users SET comment_count = GREATEST(comment_count + ?, 0) WHERE user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addHeart(Long threadId, int delta) {
+        apply(THREAD_HEART_SQL, threadId, delta);
+    }
+
+    public void threadCreated(Long userId) {
+        apply(USER_THREAD_SQL, userId, 1);
+    }
+
+    /**
+     * 게시글 삭제 - 작성자의 게시글 수와 함께 삭제되는 댓글 작성자들의 댓글 수도 차감
+     * @param commentsByUser 게시글에 달린 댓글 수 (userId → 개수)
+     */
+    public void threadDeleted(Long userId, Map<Long, Long> commentsByUser) {
+        apply(USER_THREAD_SQL, userId, -1);
+        commentsByUser.forEach((commenterId, count) -> apply(USER_COMMENT_SQL, commenterId, -count.intValue()));
+    }
+
+    public void commentAdded(Long threadId, Long userId) {
+        apply(THREAD_COMMENT_SQL, threadId, 1);
+        apply(USER_COMMENT_SQL, userId, 1);
+    }
+
+    /**
+     * 댓글 삭제 (대댓글까지 함께 삭제되므로 작성자별 개수로 차감)
+     * @param commentsByUser 삭제되는 댓글 수 (userId → 개수)
+     */
+    public void commentsRemoved(Long threadId, Map<Long, Long> commentsByUser) {
+        long total = commentsByUser.values().stream().mapToLong(Long::longValue).sum();
+        apply(THREAD_COMMENT_SQL, threadId, (int) -total);
+        commentsByUser.forEach((userId, count) -> apply(USER_COMMENT_SQL, userId, -count.intValue()));
+    }
+
+    private void apply(String sql, Long id, int delta) {
+        if (id != null && delta != 0) {
+            jdbcTemplate.update(sql, delta, id);
+        }
+    }
+}
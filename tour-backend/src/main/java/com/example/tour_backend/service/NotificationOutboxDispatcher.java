@@ -0,0 +1,235 @@
+package com.example.tour_backend.service;
+
+import com.example.tour_backend.event.CommentCreatedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 알림 아웃박스 발송
+ * - poll-interval-ms마다 발송 시각이 된 행을 batch-size개씩 SELECT ... FOR UPDATE SKIP LOCKED로 가져옴
+ *   → 여러 서버가 같은 행을 중복 처리하지 않고 나눠 가짐 (MariaDB 10.6+)
+ * - 가져온 행을 한 번에 알림으로 저장(CommentNotificationFanout)하고 같은 트랜잭션에서 아웃박스 행 삭제
+ *   → 커밋 후 NotificationsCreatedEvent로 SSE 구독자에게 전달
+ * - 배치가 실패하면 배치 트랜잭션을 통째로 롤백(이미 실행된 upsert도 취소)한 뒤, 행마다 새 트랜잭션으로 다시 시도하고
+ *   실패한 행만 지수 백오프(base-backoff-ms × 2^attempts, 최대 max-backoff-ms)로 미룸
+ * - max-attempts번 실패한 행은 남겨 두고 오류 로그 (last_error 확인 후 attempts를 0으로 되돌리면 다시 발송)
+ * - 알림 upsert는 같은 이벤트를 두 번 반영해도 같은 묶음 행에 합쳐지므로 서버 중단 후 재발송에도 안전
+ * - 지표: notification.outbox.delivered, notification.outbox.failed
+ */
+@Slf4j
+@Service
+public class NotificationOutboxDispatcher {
+    private static final String SELECT_SQL =
+            "SELECT id, event_type, payload, attempts FROM notification_outbox " +
+            "WHERE next_attempt_at <= ? AND attempts < ? ORDER BY next_attempt_at, id LIMIT ? " +
+            "FOR UPDATE SKIP LOCKED";
+    private static final String SELECT_ONE_SQL =
+            "SELECT id, event_type, payload, attempts FROM notification_outbox " +
+            "WHERE id = ? AND attempts < ? FOR UPDATE SKIP LOCKED";
+    private static final String DELETE_SQL = "DELETE FROM notification_outbox WHERE id = ?";
+    private static final String RETRY_SQL =
+            "UPDATE notification_outbox SET attempts = attempts + 1, next_attempt_at = ?, last_error = ? " +
+            "WHERE id = ? AND attempts = ?";
+
+    private static final RowMapper<Row> ROW_MAPPER = (rs, i) -> new Row(rs.getLong("id"),
+            rs.getString("event_type"), rs.getString("payload"), rs.getInt("attempts"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final CommentNotificationFanout commentNotificationFanout;
+    private final Counter deliveredCounter;
+    private final Counter failedCounter;
+
+    @Value("${notification.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${notification.outbox.max-batches-per-poll:20}")
+    private int maxBatchesPerPoll;
+
+    @Value("${notification.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${notification.outbox.base-backoff-ms:1000}")
+    private long baseBackoffMs;
+
+    @Value("${notification.outbox.max-backoff-ms:600000}")
+    private long maxBackoffMs;
+
+    public NotificationOutboxDispatcher(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                        ObjectMapper objectMapper, CommentNotificationFanout commentNotificationFanout,
+                                        MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.commentNotificationFanout = commentNotificationFanout;
+        this.deliveredCounter = Counter.builder("notification.outbox.delivered")
+                .description("발송 완료된 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("notification.outbox.failed")
+                .description("발송 실패(재시도 예약)한 아웃박스 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 발송 시각이 된 이벤트를 배치 단위로 처리 (배치마다 별도 트랜잭션)
+     * @return 발송 완료 건수
+     */
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:1000}")
+    public int dispatch() {
+        int delivered = 0;
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            Result result;
+            try {
+                result = transactionTemplate.execute(this::dispatchBatch);
+            } catch (Exception e) {
+                log.error("알림 아웃박스 처리 실패, 다음 주기에 재시도", e);
+                break;
+            }
+            if (result == null) {
+                break;
+            }
+            delivered += result.getDelivered();
+            // 롤백된 배치 → 행마다 새 트랜잭션으로 재시도
+            for (Long id : result.getFailedIds()) {
+                delivered += dispatchOne(id);
+            }
+            if (result.getFetched() < batchSize) {
+                break;
+            }
+        }
+        return delivered;
+    }
+
+    private Result dispatchBatch(TransactionStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Row> rows = jdbcTemplate.query(SELECT_SQL, ROW_MAPPER, Timestamp.valueOf(now), maxAttempts, batchSize);
+        if (rows.isEmpty()) {
+            return new Result(0, 0, List.of());
+        }
+
+        // 배치 한 번에 발송
+        try {
+            List<CommentCreatedEvent> events = new ArrayList<>();
+            for (Row row : rows) {
+                events.add(read(row));
+            }
+            commentNotificationFanout.deliver(events);
+            delete(rows);
+        } catch (Exception batchError) {
+            // 이미 실행된 upsert까지 모두 되돌리고, 커밋 후 행별로 다시 시도
+            log.warn("알림 아웃박스 배치 발송 실패 ({}건), 행별로 재시도", rows.size(), batchError);
+            status.setRollbackOnly();
+            return new Result(rows.size(), 0, rows.stream().map(Row::getId).toList());
+        }
+        deliveredCounter.increment(rows.size());
+        return new Result(rows.size(), rows.size(), List.of());
+    }
+
+    /**
+     * 한 건 발송 (별도 트랜잭션, 실패하면 롤백 후 새 트랜잭션에서 재시도 예약)
+     * @return 발송 완료 건수 (0 또는 1)
+     */
+    private int dispatchOne(Long id) {
+        Row[] locked = new Row[1];
+        try {
+            Integer delivered = transactionTemplate.execute(status -> {
+                List<Row> rows = jdbcTemplate.query(SELECT_ONE_SQL, ROW_MAPPER, id, maxAttempts);
+                if (rows.isEmpty()) {
+                    return 0; // 다른 서버가 처리 중이거나 이미 처리됨
+                }
+                locked[0] = rows.get(0);
+                commentNotificationFanout.deliver(List.of(read(locked[0])));
+                delete(rows);
+                return 1;
+            });
+            deliveredCounter.increment(delivered != null ? delivered : 0);
+            return delivered != null ? delivered : 0;
+        } catch (Exception e) {
+            if (locked[0] != null) {
+                Row row = locked[0];
+                transactionTemplate.executeWithoutResult(status -> retry(row, e, LocalDateTime.now()));
+            }
+            return 0;
+        }
+    }
+
+    private CommentCreatedEvent read(Row row) {
+        if (!NotificationOutboxService.COMMENT_CREATED.equals(row.getEventType())) {
+            throw new IllegalArgumentException("알 수 없는 아웃박스 이벤트: " + row.getEventType());
+        }
+        try {
+            JsonNode node = objectMapper.readTree(row.getPayload());
+            return new CommentCreatedEvent(
+                    longOrNull(node, "threadId"),
+                    longOrNull(node, "commentId"),
+                    longOrNull(node, "authorId"),
+                    node.path("author").asText(),
+                    longOrNull(node, "threadAuthorId"),
+                    longOrNull(node, "parentAuthorId"),
+                    objectMapper.treeToValue(node.get("createDate"), LocalDateTime.class));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 이벤트를 읽을 수 없습니다: id=" + row.getId(), e);
+        }
+    }
+
+    private Long longOrNull(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asLong();
+    }
+
+    private void delete(List<Row> rows) {
+        jdbcTemplate.batchUpdate(DELETE_SQL, rows, rows.size(), (ps, row) -> ps.setLong(1, row.getId()));
+    }
+
+    private void retry(Row row, Exception error, LocalDateTime now) {
+        int attempts = row.getAttempts() + 1;
+        long backoff = Math.min(baseBackoffMs << Math.min(row.getAttempts(), 30), maxBackoffMs);
+        String message = String.valueOf(error.getMessage());
+        jdbcTemplate.update(RETRY_SQL,
+                Timestamp.valueOf(now.plusNanos(backoff * 1_000_000)),
+                message.length() > 500 ? message.substring(0, 500) : message,
+                row.getId(), row.getAttempts());
+        failedCounter.increment();
+        if (attempts >= maxAttempts) {
+            log.error("알림 아웃박스 발송 포기: id={}, type={}, {}회 실패", row.getId(), row.getEventType(), attempts, error);
+        } else {
+            log.warn("알림 아웃박스 발송 실패: id={}, {}회째, {}ms 후 재시도 ({})", row.getId(), attempts, backoff, message);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Row {
+        private final long id;
+        private final String eventType;
+        private final String payload;
+        private final int attempts;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Result {
+        private final int fetched;
+        private final int delivered;
+        private final List<Long> failedIds; // 롤백되어 행별로 다시 시도할 ID
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.tour_backend.service;
+
+import com.example.tour_backend.event.CommentCreatedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 알림 아웃박스 기록
+ * - 반드시 도메인 변경(댓글 저장 등) 트랜잭션 안에서 호출 → 댓글과 알림 요청이 함께 커밋/롤백
+ * - 알림 저장 자체는 NotificationOutboxDispatcher가 커밋 후 처리하므로 알림 실패가 댓글 작성을 되돌리지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class NotificationOutboxService {
+    public static final String COMMENT_CREATED = "COMMENT_CREATED";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notification_outbox (event_type, payload, attempts, next_attempt_at, create_date) " +
+            "VALUES (?, ?, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void commentCreated(CommentCreatedEvent event) {
+        append(COMMENT_CREATED, event);
+    }
+
+    private void append(String eventType, Object event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("알림 이벤트를 직렬화할 수 없습니다: " + eventType, e);
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(INSERT_SQL, eventType, payload, now, now);
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.tour_backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 오래된 알림 정리 (보존 기간: 읽은 알림 read-days일, 안 읽은 알림 unread-days일, 0 이하면 보존)
+ * - (is_read, create_date) 인덱스 순서로 chunk-size행씩 DELETE → 문장마다 자동 커밋되어 잠금/undo 로그가 작음
+ * - 청크 사이 throttle-ms만큼 쉬어 복제 지연·다른 쓰기와의 경합을 줄임
+ * - 전용 스레드에서 실행 (스케줄러 스레드는 시작만 넘김 → 긴 정리가 아웃박스 발송/조회수 반영/리마인더를 막지 않음),
+ *   이전 정리가 끝나지 않았으면 이번 회차는 건너뜀
+ * - 안 읽은 알림 수 캐시는 ttl이 지나면 다시 세어 맞춰짐
+ * - 지표: notification.purge.rows (삭제 행 수), notification.purge (소요 시간)
+ */
+@Slf4j
+@Service
+public class NotificationRetentionPurger {
+    private static final String DELETE_SQL =
+            "DELETE FROM notification WHERE is_read = ? AND create_date < ? ORDER BY create_date, notice_id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter purgedRows;
+    private final Timer purgeTimer;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private ThreadPoolTaskExecutor executor;
+
+    @Value("${notification.retention.read-days:30}")
+    private int readDays;
+
+    @Value("${notification.retention.unread-days:90}")
+    private int unreadDays;
+
+    @Value("${notification.retention.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${notification.retention.throttle-ms:100}")
+    private long throttleMs;
+
+    public NotificationRetentionPurger(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.purgedRows = Counter.builder("notification.purge.rows")
+                .description("보존 기간이 지나 삭제된 알림 수")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("notification.purge")
+                .description("알림 정리 소요 시간")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("notification-purge-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown(); // 진행 중인 정리는 sleep 중 인터럽트되어 멈춤 (다음 회차에 이어서 삭제)
+    }
+
+    @Scheduled(cron = "${notification.retention.cron:0 0 5 * * *}")
+    public void schedulePurge() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("이전 알림 정리가 아직 진행 중이라 이번 회차는 건너뜁니다.");
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    purge();
+                } catch (Exception e) {
+                    log.error("알림 정리 실패", e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            running.set(false);
+            log.warn("알림 정리를 시작하지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 정리 실행 (호출 스레드에서 끝까지 수행)
+     * @return 구분(read/unread)별 삭제 행 수
+     */
+    public Map<String, Integer> purge() {
+        long started = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Integer> purged = new LinkedHashMap<>();
+        try {
+            purged.put("read", purge(true, readDays, now));
+            purged.put("unread", purge(false, unreadDays, now));
+        } finally {
+            long elapsed = System.nanoTime() - started;
+            purgeTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            log.info("알림 정리 완료: {} ({}ms)", purged, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+        return purged;
+    }
+
+    private int purge(boolean isRead, int days, LocalDateTime now) {
+        if (days <= 0) {
+            return 0;
+        }
+        Timestamp cutoff = Timestamp.valueOf(now.minusDays(days));
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(DELETE_SQL, isRead, cutoff, chunkSize);
+            purged += deleted;
+            purgedRows.increment(deleted);
+            if (deleted == chunkSize && throttleMs > 0) {
+                try {
+                    Thread.sleep(throttleMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.warn("알림 정리 중단 (isRead={}, 지금까지 {}건)", isRead, purged);
+                    break;
+                }
+            }
+        } while (deleted == chunkSize);
+        return purged;
+    }
+}
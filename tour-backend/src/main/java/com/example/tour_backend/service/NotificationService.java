@@ -9,11 +9,22 @@ import com.example.tour_backend.domain.thread.ThreadRepository;
 import com.example.tour_backend.domain.user.User;
 import com.example.tour_backend.domain.user.UserRepository;
 import com.example.tour_backend.dto.notification.NotificationDto;
+import com.example.tour_backend.event.NotificationsCreatedEvent;
+import com.example.tour_backend.event.UnreadCountChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,6 +34,11 @@ public class NotificationService {
     private final UserRepository userRepository;
     private final ThreadRepository threadRepository;
     private final CommentRepository commentRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${notification.bulk.batch-size:1000}")
+    private int bulkBatchSize;
 
     @Transactional
     public NotificationDto createNotification(Long userId, Long threadId, Long commentId, String message) {
@@ -45,13 +61,17 @@ public class NotificationService {
                 .build();
 
         notificationRepository.save(notification);
+        eventPublisher.publishEvent(new NotificationsCreatedEvent(Set.of(userId)));
 
         NotificationDto dto = new NotificationDto();
         dto.setNoticeId(notification.getNoticeId());
         dto.setUserId(user.getUserId());
+        dto.setType(notification.getType());
         dto.setThreadId(thread.getThreadId());
         dto.setCommentId(commentId);
         dto.setMessage(message);
+        dto.setActorCount(1);
+        dto.setActors(List.of());
         dto.setRead(false);
         dto.setCreateDate(notification.getCreateDate());
 
@@ -63,23 +83,89 @@ public class NotificationService {
                 notificationRepository.findByUserUserIdOrderByCreateDateDesc(userId);
 
         return notifications.stream()
-                .map(n -> {
-                    NotificationDto dto = new NotificationDto();
-                    dto.setNoticeId(n.getNoticeId());
-                    dto.setUserId(n.getUser().getUserId());
-                    dto.setThreadId(n.getThread().getThreadId());
-                    dto.setCommentId(n.getComment().getCommentId());
-                    dto.setCommentId(n.getComment() != null ? n.getComment().getCommentId() : null); //7/3
-                    dto.setMessage(n.getMessage());
-                    dto.setRead(n.isRead());
-                    dto.setCreateDate(n.getCreateDate());
-                    return dto;
-                })
+                .map(this::toDto)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * afterId 이후에 생긴 알림 (SSE 푸시/재개용, 오래된 순)
+     */
+    public List<NotificationDto> getNotificationsAfter(Long userId, long afterId, int limit) {
+        return notificationRepository
+                .findByUserUserIdAndNoticeIdGreaterThanOrderByNoticeIdAsc(userId, afterId, PageRequest.of(0, limit))
+                .stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 묶음 키로 알림 조회 (묶음 갱신 SSE 푸시용)
+     */
+    public List<NotificationDto> getNotificationsByGroupKeys(Collection<String> groupKeys) {
+        return notificationRepository.findByGroupKeyIn(groupKeys).stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 회원의 가장 최근 알림 ID (없으면 0)
+     */
+    public long getLatestNoticeId(Long userId) {
+        Long latest = notificationRepository.findMaxNoticeIdByUserId(userId);
+        return latest != null ? latest : 0L;
+    }
+
+    private NotificationDto toDto(Notification n) {
+        NotificationDto dto = new NotificationDto();
+        dto.setNoticeId(n.getNoticeId());
+        dto.setUserId(n.getUser().getUserId());
+        dto.setType(n.getType());
+        dto.setThreadId(n.getThread() != null ? n.getThread().getThreadId() : null);
+        dto.setCommentId(n.getComment() != null ? n.getComment().getCommentId() : null); //7/3
+        dto.setTourId(n.getTour() != null ? n.getTour().getTourId() : null);
+        dto.setMessage(n.getMessage());
+        dto.setActorCount(Math.max(n.getActorCount(), 1));
+        dto.setActors(n.getActors() != null ? List.of(n.getActors().split(",")) : List.of());
+        dto.setRead(n.isRead());
+        dto.setCreateDate(n.getCreateDate());
+        return dto;
+    }
+
     //알림 읽음 처리하는 메서드 7/7
-    public void deleteNotificationsByIds(List<Long> ids) { //7/3
-        notificationRepository.deleteAllById(ids);
+    /**
+     * 선택한 알림 삭제 (batch-size개씩 DELETE 1문장)
+     * @return 삭제된 알림 수
+     */
+    public int deleteNotificationsByIds(List<Long> ids) { //7/3
+        return forEachIdChunk(ids, notificationRepository::deleteByIds);
+    }
+
+    /**
+     * 회원의 읽은 알림 전부 삭제 (id 구간별 DELETE)
+     * @return 삭제된 알림 수
+     */
+    public int deleteAllRead(Long userId) {
+        return forEachUserRange(userId, true, notificationRepository::deleteReadInRange);
+    }
+
+    /**
+     * 선택한 알림 읽음 처리 (batch-size개씩 UPDATE 1문장)
+     * @return 읽음으로 바뀐 알림 수
+     */
+    public int markAsReadByIds(List<Long> ids) {
+        return forEachIdChunk(ids, notificationRepository::markReadByIds);
+    }
+
+    /**
+     * 회원의 안 읽은 알림 전부 읽음 처리 (id 구간별 UPDATE)
+     * @return 읽음으로 바뀐 알림 수
+     */
+    public int markAllAsRead(Long userId) {
+        int affected = forEachUserRange(userId, false, notificationRepository::markReadInRange);
+        if (affected > 0) {
+            eventPublisher.publishEvent(UnreadCountChangedEvent.reset(Set.of(userId)));
+        }
+        return affected;
     }
 
     @Transactional
@@ -87,9 +173,61 @@ public class NotificationService {
         Notification notification = notificationRepository.findById(noticeId)
                 .orElseThrow(() -> new RuntimeException("알림이 존재하지 않습니다."));
 
-        if (!notification.isRead()) {
-            notification.setRead(true); // 필드 직접 수정
+        // 안 읽은 상태에서 바뀐 경우에만 안 읽은 알림 수 감소
+        if (notificationRepository.markRead(noticeId) > 0) {
+            eventPublisher.publishEvent(new UnreadCountChangedEvent(
+                    Map.of(notification.getUser().getUserId(), -1L)));
+        }
+    }
+
+    /**
+     * 안 읽은 알림 수 (헤더 배지용, 캐시)
+     */
+    public long getUnreadCount(Long userId) {
+        return unreadNotificationCounter.get(userId);
+    }
+
+    /**
+     * id 목록을 batch-size개씩 나눠 문장 하나씩 실행 (안 읽은 알림이 바뀐 회원은 캐시를 다시 셈)
+     */
+    private int forEachIdChunk(List<Long> ids, Function<List<Long>, Integer> statement) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        List<Long> distinct = ids.stream().filter(Objects::nonNull).distinct().sorted().collect(Collectors.toList());
+        Set<Long> owners = new HashSet<>();
+        int affected = 0;
+        for (int from = 0; from < distinct.size(); from += bulkBatchSize) {
+            List<Long> chunk = distinct.subList(from, Math.min(from + bulkBatchSize, distinct.size()));
+            owners.addAll(notificationRepository.findUnreadOwnerIds(chunk));
+            affected += statement.apply(chunk);
+        }
+        if (!owners.isEmpty()) {
+            eventPublisher.publishEvent(UnreadCountChangedEvent.reset(owners));
+        }
+        return affected;
+    }
+
+    /**
+     * 회원의 (읽음 여부가 같은) 알림을 batch-size개 단위 noticeId 구간으로 나눠 문장 하나씩 실행
+     * - 구간 끝은 (user_id, is_read) 인덱스에서 OFFSET으로 찾음 → 구간마다 최대 batch-size행만 잠금
+     */
+    private int forEachUserRange(Long userId, boolean isRead, RangeStatement statement) {
+        int affected = 0;
+        long after = 0;
+        while (true) {
+            Long end = notificationRepository.findChunkEnd(userId, isRead, after, bulkBatchSize - 1);
+            if (end == null) {
+                return affected + statement.apply(userId, after, Long.MAX_VALUE);
+            }
+            affected += statement.apply(userId, after, end);
+            after = end;
         }
     }
 
+    @FunctionalInterface
+    private interface RangeStatement {
+        int apply(Long userId, long fromId, long toId);
+    }
+
 }
@@ -0,0 +1,305 @@
+package com.example.tour_backend.service;
+
+import com.example.tour_backend.dto.notification.NotificationDto;
+import com.example.tour_backend.event.NotificationsCreatedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 알림 SSE 푸시 (GET /api/notifications/stream)
+ * - 회원별 구독 목록을 메모리에 두고, NotificationsCreatedEvent를 받으면 구독 중인 회원만
+ *   "마지막으로 보낸 알림 이후"를 DB에서 읽어 밀어줌 → 알림 목록 폴링이 필요 없음
+ * - 묶음 알림("OO님 외 N명")이 갱신되면 같은 noticeId로 다시 보냄 (클라이언트가 교체)
+ * - 이벤트 id = noticeId 이므로 재연결 시 브라우저가 보내는 Last-Event-ID 이후부터 DB에서 재개
+ * - 연결마다 보낼 알림 버퍼는 buffer-size개로 제한, 넘치면 연결을 끊어 클라이언트가 재개하도록 함
+ * - heartbeat-interval-ms마다 주석 이벤트를 보내 프록시 유휴 종료를 막고 끊긴 연결을 정리
+ *   (전송은 전용 풀에서, 스케줄러 스레드는 작업만 넘김 → 멈춘 연결이 다른 @Scheduled 작업을 붙잡지 않음)
+ * - 지표: notification.stream.connections (열린 연결 수)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationStreamService {
+    private static final String EVENT_NAME = "notification";
+
+    private final NotificationService notificationService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${notification.stream.buffer-size:100}")
+    private int bufferSize;
+
+    @Value("${notification.stream.max-connections-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    @Value("${notification.stream.retry-ms:3000}")
+    private long retryMs;
+
+    @Value("${notification.stream.pool-size:4}")
+    private int poolSize;
+
+    private final Map<Long, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private ThreadPoolTaskExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        // 전용 풀 (느린 연결이 알림 저장 스레드를 붙잡지 않도록), 밀리면 호출 스레드에서 처리
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(Math.max(1, poolSize));
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("notification-sse-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+
+        Gauge.builder("notification.stream.connections", this, NotificationStreamService::connectionCount)
+                .description("열린 알림 SSE 연결 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 구독 시작
+     * @param lastEventId 재연결 시 마지막으로 받은 noticeId (없으면 지금부터)
+     */
+    public SseEmitter subscribe(Long userId, Long lastEventId) {
+        long cursor = lastEventId != null ? lastEventId : notificationService.getLatestNoticeId(userId);
+        Subscriber subscriber = new Subscriber(userId, new SseEmitter(timeoutMs), bufferSize, cursor);
+
+        List<Subscriber> list = subscribers.compute(userId, (id, current) -> {
+            List<Subscriber> updated = current != null ? current : new CopyOnWriteArrayList<>();
+            updated.add(subscriber);
+            return updated;
+        });
+        // 연결 수 제한: 가장 오래된 연결부터 닫음
+        while (list.size() > maxConnectionsPerUser) {
+            close(list.get(0));
+        }
+
+        SseEmitter emitter = subscriber.emitter;
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        try {
+            emitter.send(SseEmitter.event().reconnectTime(retryMs).comment("connected"));
+        } catch (Exception e) {
+            remove(subscriber);
+            return emitter;
+        }
+
+        if (lastEventId != null) {
+            executor.execute(() -> deliver(userId));
+        }
+        return emitter;
+    }
+
+    /**
+     * 새 알림 푸시 (저장 트랜잭션 커밋 후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationsCreated(NotificationsCreatedEvent event) {
+        boolean subscribed = false;
+        for (Long userId : event.getUserIds()) {
+            if (subscribers.containsKey(userId)) {
+                executor.execute(() -> deliver(userId));
+                subscribed = true;
+            }
+        }
+        if (subscribed && !event.getGroupKeys().isEmpty()) {
+            executor.execute(() -> deliverUpdates(event.getGroupKeys()));
+        }
+    }
+
+    @Scheduled(fixedRateString = "${notification.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (List<Subscriber> list : subscribers.values()) {
+            for (Subscriber subscriber : list) {
+                // 이전 핑이 아직 안 나간 연결, 풀 대기열이 가득 찬 경우(CallerRuns로 여기서 실행됨)는 이번 회차를 건너뜀
+                if (executor.getThreadPoolExecutor().getQueue().remainingCapacity() == 0
+                        || !subscriber.pingPending.compareAndSet(false, true)) {
+                    continue;
+                }
+                executor.execute(() -> ping(subscriber));
+            }
+        }
+    }
+
+    public int connectionCount() {
+        int count = 0;
+        for (List<Subscriber> list : subscribers.values()) {
+            count += list.size();
+        }
+        return count;
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdown();
+        subscribers.values().forEach(list -> list.forEach(this::close));
+    }
+
+    /**
+     * 회원의 모든 연결 중 가장 뒤처진 커서 이후 알림을 buffer-size씩 읽어 각 연결 버퍼에 넣고 전송
+     */
+    private void deliver(Long userId) {
+        List<Subscriber> list = subscribers.get(userId);
+        if (list == null || list.isEmpty()) {
+            return;
+        }
+        try {
+            long from = Long.MAX_VALUE;
+            for (Subscriber subscriber : list) {
+                from = Math.min(from, subscriber.queuedId);
+            }
+
+            List<NotificationDto> page;
+            do {
+                page = notificationService.getNotificationsAfter(userId, from, bufferSize);
+                for (NotificationDto dto : page) {
+                    for (Subscriber subscriber : list) {
+                        if (!subscriber.offer(dto)) {
+                            log.debug("알림 SSE 버퍼 초과로 연결 종료: userId={}", userId);
+                            close(subscriber);
+                        }
+                    }
+                    from = dto.getNoticeId();
+                }
+                list.forEach(this::drain);
+            } while (page.size() == bufferSize && !list.isEmpty());
+        } catch (Exception e) {
+            log.error("알림 SSE 전송 실패: userId={}", userId, e);
+        }
+    }
+
+    /**
+     * 기존 묶음 행에 합쳐진 알림 재전송 (같은 noticeId, 클라이언트가 교체)
+     * - 아직 안 보낸 행은 deliver가 최신 내용으로 보내므로 여기서는 건너뜀
+     */
+    private void deliverUpdates(Set<String> groupKeys) {
+        try {
+            for (NotificationDto dto : notificationService.getNotificationsByGroupKeys(groupKeys)) {
+                List<Subscriber> list = subscribers.get(dto.getUserId());
+                if (list == null) {
+                    continue;
+                }
+                for (Subscriber subscriber : list) {
+                    if (!subscriber.offerUpdate(dto)) {
+                        close(subscriber);
+                    }
+                    drain(subscriber);
+                }
+            }
+        } catch (Exception e) {
+            log.error("알림 SSE 묶음 갱신 전송 실패", e);
+        }
+    }
+
+    private void ping(Subscriber subscriber) {
+        try {
+            drain(subscriber);
+            subscriber.emitter.send(SseEmitter.event().comment("ping"));
+        } catch (Exception e) {
+            remove(subscriber);
+        } finally {
+            subscriber.pingPending.set(false);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        if (!subscriber.sendLock.tryLock()) {
+            return; // 다른 스레드가 보내는 중 → 그쪽에서 비움
+        }
+        try {
+            NotificationDto dto;
+            while ((dto = subscriber.buffer.poll()) != null) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(String.valueOf(dto.getNoticeId()))
+                        .name(EVENT_NAME)
+                        .data(dto));
+            }
+        } catch (Exception e) {
+            remove(subscriber);
+        } finally {
+            subscriber.sendLock.unlock();
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        remove(subscriber);
+        if (!subscriber.closed) {
+            subscriber.closed = true;
+            subscriber.emitter.complete();
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (id, list) -> {
+            list.remove(subscriber);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    private static class Subscriber {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<NotificationDto> buffer;
+        private final ReentrantLock sendLock = new ReentrantLock();
+        private final AtomicBoolean pingPending = new AtomicBoolean(false);
+        private volatile long queuedId; // 버퍼에 넣은 마지막 noticeId
+        private volatile boolean closed;
+
+        private Subscriber(Long userId, SseEmitter emitter, int bufferSize, long cursor) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+            this.queuedId = cursor;
+        }
+
+        /**
+         * @return 버퍼가 가득 차 넣지 못했으면 false
+         */
+        private synchronized boolean offer(NotificationDto dto) {
+            if (dto.getNoticeId() <= queuedId) {
+                return true; // 이미 보냈거나 이 연결이 더 앞서 있음
+            }
+            if (closed || !buffer.offer(dto)) {
+                return false;
+            }
+            queuedId = dto.getNoticeId();
+            return true;
+        }
+
+        /**
+         * 이미 보낸 알림의 갱신본
+         * @return 버퍼가 가득 차 넣지 못했으면 false
+         */
+        private synchronized boolean offerUpdate(NotificationDto dto) {
+            if (dto.getNoticeId() > queuedId) {
+                return true; // 아직 안 보낸 알림 → deliver에서 보냄
+            }
+            return !closed && buffer.offer(dto);
+        }
+    }
+}
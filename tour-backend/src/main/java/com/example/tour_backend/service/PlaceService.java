@@ -0,0 +1,214 @@
+package com.example.tour_backend.service;
+
+import com.example.tour_backend.domain.place.Place;
+import com.example.tour_backend.domain.place.PlaceRepository;
+import com.example.tour_backend.dto.tour.plan.CoordinatesDto;
+import com.example.tour_backend.dto.tour.plan.LocationDataDto;
+import com.example.tour_backend.dto.tour.plan.ScheduleItemDto;
+import com.example.tour_backend.dto.tour.plan.TravelPlanDto;
+import com.example.tour_backend.exception.GlobalExceptionHandler.PlaceNotFoundException;
+import com.example.tour_backend.util.JsonUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 장소 사전 관리
+ * - 저장: locationData 상세를 place 테이블에 배치 upsert 하고 planData에는 placeId만 남김
+ * - 조회: 여러 계획의 placeId를 모아 한 번에 조회해 상세 정보를 채움 (같은 장소는 같은 문자열 인스턴스 공유)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlaceService {
+    // 이미 있는 장소는 비어 있는 컬럼만 채움 (여행 계획 저장 값으로 공유 사전을 덮어쓰지 않음, 수정은 PUT /api/places/{placeId})
+    // - MariaDB는 SET을 왼쪽부터 적용하므로 modified_date를 먼저 계산 (채운 컬럼이 있을 때만 갱신)
+    private static final String UPSERT_SQL =
+            "INSERT INTO place (place_id, name, address, lat, lng, rating, photo_url, google_map_link, create_date, modified_date) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "modified_date = IF((name IS NULL AND VALUES(name) IS NOT NULL) " +
+            "OR (address IS NULL AND VALUES(address) IS NOT NULL) " +
+            "OR (lat IS NULL AND VALUES(lat) IS NOT NULL AND VALUES(lng) IS NOT NULL AND (lng IS NULL OR lng = VALUES(lng))) " +
+            "OR (rating IS NULL AND VALUES(rating) IS NOT NULL) " +
+            "OR (photo_url IS NULL AND VALUES(photo_url) IS NOT NULL) " +
+            "OR (google_map_link IS NULL AND VALUES(google_map_link) IS NOT NULL), NOW(), modified_date), " +
+            "name = COALESCE(name, VALUES(name)), " +
+            "address = COALESCE(address, VALUES(address)), " +
+            // 좌표는 한 쌍으로만 채움 (lng를 먼저 채우고, lat은 lng가 새 쌍과 같을 때만 채움)
+            "lng = IF(lat IS NULL AND lng IS NULL AND VALUES(lat) IS NOT NULL AND VALUES(lng) IS NOT NULL, VALUES(lng), lng), " +
+            "lat = IF(lat IS NULL AND VALUES(lat) IS NOT NULL AND VALUES(lng) IS NOT NULL AND lng = VALUES(lng), VALUES(lat), lat), " +
+            "rating = COALESCE(rating, VALUES(rating)), " +
+            "photo_url = COALESCE(photo_url, VALUES(photo_url)), " +
+            "google_map_link = COALESCE(google_map_link, VALUES(google_map_link))";
+
+    private final PlaceRepository placeRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 계획 데이터를 장소 사전 참조 형태의 JSON으로 변환 (장소 상세는 place 테이블로 upsert)
+     */
+    @Transactional
+    public String toCompactJson(TravelPlanDto plan) {
+        if (plan == null || plan.getSchedules() == null) {
+            return JsonUtil.toJson(plan);
+        }
+
+        Map<String, LocationDataDto> places = new LinkedHashMap<>();
+        for (ScheduleItemDto schedule : plan.getSchedules()) {
+            LocationDataDto location = schedule != null ? schedule.getLocationData() : null;
+            if (hasPlaceId(location)) {
+                places.putIfAbsent(location.getPlaceId(), location);
+            }
+        }
+        if (places.isEmpty()) {
+            return JsonUtil.toJson(plan);
+        }
+        upsert(places.values());
+
+        // 직렬화 동안만 placeId만 가진 참조로 교체 후 원복 (호출자의 DTO는 변경하지 않음)
+        List<ScheduleItemDto> schedules = plan.getSchedules();
+        LocationDataDto[] originals = new LocationDataDto[schedules.size()];
+        try {
+            for (int i = 0; i < schedules.size(); i++) {
+                ScheduleItemDto schedule = schedules.get(i);
+                if (schedule != null && hasPlaceId(schedule.getLocationData())) {
+                    originals[i] = schedule.getLocationData();
+                    LocationDataDto reference = new LocationDataDto();
+                    reference.setPlaceId(originals[i].getPlaceId());
+                    schedule.setLocationData(reference);
+                }
+            }
+            return JsonUtil.toJson(plan);
+        } finally {
+            for (int i = 0; i < schedules.size(); i++) {
+                if (originals[i] != null) {
+                    schedules.get(i).setLocationData(originals[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * 여러 계획의 장소 상세를 한 번의 조회로 채움
+     * - 사전에 없는 장소(기존 인라인 데이터)는 그대로 둠
+     */
+    @Transactional(readOnly = true)
+    public void resolve(Collection<TravelPlanDto> plans) {
+        Map<String, List<LocationDataDto>> references = new HashMap<>();
+        for (TravelPlanDto plan : plans) {
+            if (plan == null || plan.getSchedules() == null) {
+                continue;
+            }
+            for (ScheduleItemDto schedule : plan.getSchedules()) {
+                LocationDataDto location = schedule != null ? schedule.getLocationData() : null;
+                if (hasPlaceId(location)) {
+                    references.computeIfAbsent(location.getPlaceId(), k -> new ArrayList<>()).add(location);
+                }
+            }
+        }
+        if (references.isEmpty()) {
+            return;
+        }
+
+        for (Place place : placeRepository.findAllById(references.keySet())) {
+            // 같은 장소를 참조하는 일정은 문자열 인스턴스를 공유, 변경 가능한 좌표 DTO는 일정마다 복사
+            boolean hasCoordinates = place.getLat() != null && place.getLng() != null;
+            for (LocationDataDto location : references.get(place.getPlaceId())) {
+                location.setPlaceId(place.getPlaceId());
+                location.setName(place.getName());
+                location.setAddress(place.getAddress());
+                location.setCoordinates(hasCoordinates ? new CoordinatesDto(place.getLat(), place.getLng()) : null);
+                location.setRating(place.getRating());
+                location.setPhotoUrl(place.getPhotoUrl());
+                location.setGoogleMapLink(place.getGoogleMapLink());
+            }
+        }
+    }
+
+    public void resolve(TravelPlanDto plan) {
+        if (plan != null) {
+            resolve(List.of(plan));
+        }
+    }
+
+    public Optional<LocationDataDto> getPlace(String placeId) {
+        return placeRepository.findById(placeId).map(this::toLocationData);
+    }
+
+    /**
+     * 장소 상세 수정 - 이 장소를 참조하는 모든 여행 계획에 반영됨 (단일 UPDATE)
+     */
+    @Transactional
+    public LocationDataDto updatePlace(String placeId, LocationDataDto dto) {
+        Place place = placeRepository.findById(placeId)
+                .orElseThrow(() -> new PlaceNotFoundException(placeId));
+
+        if (dto.getName() != null) {
+            place.setName(dto.getName());
+        }
+        if (dto.getAddress() != null) {
+            place.setAddress(dto.getAddress());
+        }
+        if (dto.getCoordinates() != null) {
+            place.setLat(dto.getCoordinates().getLat());
+            place.setLng(dto.getCoordinates().getLng());
+        }
+        if (dto.getRating() != null) {
+            place.setRating(dto.getRating());
+        }
+        if (dto.getPhotoUrl() != null) {
+            place.setPhotoUrl(dto.getPhotoUrl());
+        }
+        if (dto.getGoogleMapLink() != null) {
+            place.setGoogleMapLink(dto.getGoogleMapLink());
+        }
+
+        log.info("장소 정보 수정: placeId={}", placeId);
+        return toLocationData(place);
+    }
+
+    private void upsert(Collection<LocationDataDto> locations) {
+        List<LocationDataDto> rows = new ArrayList<>(locations);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (ps, location) -> {
+            CoordinatesDto coordinates = location.getCoordinates();
+            ps.setString(1, location.getPlaceId());
+            ps.setString(2, location.getName());
+            ps.setString(3, location.getAddress());
+            ps.setObject(4, coordinates != null ? coordinates.getLat() : null, Types.DOUBLE);
+            ps.setObject(5, coordinates != null ? coordinates.getLng() : null, Types.DOUBLE);
+            ps.setObject(6, location.getRating(), Types.DOUBLE);
+            ps.setString(7, location.getPhotoUrl());
+            ps.setString(8, location.getGoogleMapLink());
+        });
+    }
+
+    private LocationDataDto toLocationData(Place place) {
+        LocationDataDto dto = new LocationDataDto();
+        dto.setPlaceId(place.getPlaceId());
+        dto.setName(place.getName());
+        dto.setAddress(place.getAddress());
+        if (place.getLat() != null && place.getLng() != null) {
+            dto.setCoordinates(new CoordinatesDto(place.getLat(), place.getLng()));
+        }
+        dto.setRating(place.getRating());
+        dto.setPhotoUrl(place.getPhotoUrl());
+        dto.setGoogleMapLink(place.getGoogleMapLink());
+        return dto;
+    }
+
+    private boolean hasPlaceId(LocationDataDto location) {
+        return location != null && location.getPlaceId() != null && !location.getPlaceId().isBlank();
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.tour_backend.service;
+
+import com.example.tour_backend.domain.thread.Thread;
+import com.example.tour_backend.domain.thread.ThreadRepository;
+import com.example.tour_backend.event.ThreadChangedEvent;
+import com.example.tour_backend.util.search.IndexSegmentFile;
+import com.example.tour_backend.util.search.InvertedIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 게시글 전문 검색 (제목/본문/작성자/지역)
+ * - 시작 시 디스크 세그먼트를 읽고, DB와 수정 시각을 비교해 바뀐 글만 다시 색인
+ * - 게시글 변경은 커밋 후 이벤트로 증분 반영, 변경이 있으면 주기적으로 세그먼트 저장
+ * - 색인이 준비되기 전에는 isReady()가 false (호출자가 기존 LIKE 검색으로 대체)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ThreadSearchService {
+    public static final int TITLE = 0;
+    public static final int CONTENT = 1;
+    public static final int AUTHOR = 2;
+    public static final int AREA = 3;
+
+    // 제목 > 작성자/지역 > 본문 순으로 가중치
+    private static final float[] FIELD_WEIGHTS = {2.0f, 1.0f, 1.5f, 1.5f};
+    private static final int RELOAD_CHUNK_SIZE = 500;
+    private static final String SEGMENT_FILE = "threads.seg";
+
+    private final ThreadRepository threadRepository;
+
+    private final InvertedIndex index = new InvertedIndex(FIELD_WEIGHTS);
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private volatile boolean ready = false;
+
+    @Value("${thread.search.index-dir:search-index/}")
+    private String indexDir;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 검색
+     * @param authorOnly true면 작성자 필드만, false면 제목/본문/지역
+     */
+    public List<InvertedIndex.Hit> search(String keyword, boolean authorOnly) {
+        return authorOnly
+                ? index.search(keyword, AUTHOR)
+                : index.search(keyword, TITLE, CONTENT, AREA);
+    }
+
+    /**
+     * 세그먼트 복원 + DB 동기화
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long started = System.currentTimeMillis();
+        try {
+            int restored = IndexSegmentFile.read(segmentPath(), index);
+            if (restored >= 0) {
+                log.info("검색 세그먼트 복원: {}건", restored);
+            }
+        } catch (IOException e) {
+            log.warn("검색 세그먼트를 읽지 못해 전체 재색인합니다: {}", e.getMessage());
+        }
+
+        // 수정 시각이 다른 글만 다시 색인, DB에 없는 글은 제거
+        Map<Long, Long> indexed = index.versions();
+        List<Long> changed = new ArrayList<>();
+        Set<Long> existing = new HashSet<>();
+        for (Object[] row : threadRepository.findAllModifiedDates()) {
+            Long threadId = (Long) row[0];
+            existing.add(threadId);
+            if (!Long.valueOf(version((LocalDateTime) row[1])).equals(indexed.get(threadId))) {
+                changed.add(threadId);
+            }
+        }
+        int removed = 0;
+        for (Long threadId : indexed.keySet()) {
+            if (!existing.contains(threadId)) {
+                index.remove(threadId);
+                removed++;
+            }
+        }
+        for (int from = 0; from < changed.size(); from += RELOAD_CHUNK_SIZE) {
+            List<Long> chunk = changed.subList(from, Math.min(from + RELOAD_CHUNK_SIZE, changed.size()));
+            threadRepository.findAllById(chunk).forEach(this::indexThread);
+        }
+
+        ready = true;
+        if (!changed.isEmpty() || removed > 0) {
+            dirty.set(true);
+            flush();
+        }
+        log.info("검색 색인 준비 완료: 전체 {}건, 재색인 {}건, 제거 {}건 ({}ms)",
+                index.size(), changed.size(), removed, System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 게시글 변경 반영 (커밋된 최신 상태를 다시 읽어 색인, 없으면 삭제)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onThreadChanged(ThreadChangedEvent event) {
+        try {
+            threadRepository.findById(event.getThreadId())
+                    .ifPresentOrElse(this::indexThread, () -> index.remove(event.getThreadId()));
+            dirty.set(true);
+        } catch (Exception e) {
+            // 색인 실패가 게시글 요청을 실패시키지 않도록 함 (다음 시작 시 동기화에서 복구)
+            log.error("검색 색인 갱신 실패: threadId={}", event.getThreadId(), e);
+        }
+    }
+
+    /**
+     * 변경이 있을 때만 세그먼트 저장
+     */
+    @Scheduled(fixedDelayString = "${thread.search.flush-interval-ms:60000}")
+    public void flush() {
+        if (!ready || !dirty.compareAndSet(true, false)) {
+            return;
+        }
+        try {
+            int written = IndexSegmentFile.write(index, segmentPath());
+            log.debug("검색 세그먼트 저장: {}건", written);
+        } catch (IOException e) {
+            dirty.set(true);
+            log.error("검색 세그먼트 저장 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    private void indexThread(Thread thread) {
+        index.put(thread.getThreadId(), version(thread.getModifiedDate()),
+                nullToEmpty(thread.getTitle()),
+                nullToEmpty(thread.getContent()),
+                nullToEmpty(thread.getAuthor()),
+                nullToEmpty(thread.getArea()));
+    }
+
+    // DB 정밀도 차이로 매번 재색인되지 않도록 밀리초 단위로 비교
+    private long version(LocalDateTime modifiedDate) {
+        return modifiedDate == null
+                ? 0L
+                : modifiedDate.truncatedTo(ChronoUnit.MILLIS).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    private Path segmentPath() {
+        return Paths.get(indexDir).resolve(SEGMENT_FILE);
+    }
+}
@@ -1,32 +1,64 @@
 package com.example.tour_backend.service;
 
+import com.example.tour_backend.domain.comment.Comment;
+import com.example.tour_backend.domain.comment.CommentRepository;
 import com.example.tour_backend.domain.thread.Thread;
-import com.example.tour_backend.domain.thread.ThreadLike;
 import com.example.tour_backend.domain.thread.ThreadLikeRepository;
 import com.example.tour_backend.domain.thread.ThreadRepository;
+import com.example.tour_backend.domain.thread.ThreadSummaryView;
 import com.example.tour_backend.domain.user.User;
 import com.example.tour_backend.domain.user.UserRepository;
 import com.example.tour_backend.dto.comment.CommentDto;
 import com.example.tour_backend.dto.thread.ThreadDto;
+import com.example.tour_backend.dto.thread.ThreadPageDto;
 import com.example.tour_backend.dto.thread.ThreadUpdateRequestDto;
+import com.example.tour_backend.event.ThreadActivityEvent;
+import com.example.tour_backend.event.ThreadChangedEvent;
+import com.example.tour_backend.util.AreaNormalizer;
+import com.example.tour_backend.util.StreamUtil;
+import com.example.tour_backend.util.search.InvertedIndex;
+import jakarta.persistence.EntityManager;
 import lombok.Builder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 
 public class ThreadService {
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int ID_CHUNK_SIZE = 1000; // IN 절 하나에 넣는 ID 수
+    private static final int STREAM_CHUNK_SIZE = 100;
+
     private final ThreadRepository threadRepository;
     private final UserRepository userRepository;
     private final ThreadLikeRepository threadLikeRepository; //(수정함)
+    private final ThreadSearchService threadSearchService;
+    private final ThreadViewCounter threadViewCounter;
+    private final ThreadTrendingService threadTrendingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final CommentRepository commentRepository;
+    private final CounterService counterService;
 
     @Transactional //게시글 생성 파일 업로드 추가
     public ThreadDto createThread(ThreadUpdateRequestDto requestDto) {
@@ -43,8 +75,8 @@ public class ThreadService {
                 .build();
 
         threadRepository.save(thread);
-
-
+        counterService.threadCreated(user.getUserId());
+        eventPublisher.publishEvent(new ThreadChangedEvent(thread.getThreadId()));
 
         return convertToDto(thread);
     }
@@ -62,11 +94,185 @@ public class ThreadService {
 
     }
 
+    /**
+     * 모든 게시글 목록 스트리밍 (JsonArrayStreamer용)
+     * - threadId 키셋으로 100건씩 읽어 변환·전송 후 영속성 컨텍스트를 비움 (메모리는 묶음 크기만큼)
+     * - 첨부파일/댓글은 묶음마다 IN 쿼리로 한 번에 조회 (게시글마다 지연 로딩하지 않음)
+     */
+    @Transactional(readOnly = true)
+    public void streamAllThreads(Consumer<ThreadDto> sink) {
+        StreamUtil.forEachPage((lastId, size) -> threadRepository.findPageAfter(lastId, PageRequest.of(0, size)),
+                Thread::getThreadId, STREAM_CHUNK_SIZE, chunk -> {
+                    toDtos(chunk).forEach(sink);
+                    entityManager.clear();
+                });
+    }
+
+    /**
+     * 게시판 커서 페이지 조회
+     * - 목록 컬럼 1회 + 첨부파일 1회, 페이지 크기와 관계없이 쿼리 2번
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param sort   latest(기본) / views / likes
+     * @param userId 있으면 likedByCurrentUser까지 채움
+     */
+    @Transactional(readOnly = true)
+    public ThreadPageDto getThreadPage(String cursor, Integer size, String area, String sort, Long userId) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        String areaKey = AreaNormalizer.normalize(area);
+        String sortKey = sort == null || sort.isBlank() ? "latest" : sort;
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        long[] position = parseCursor(cursor, !"latest".equals(sortKey));
+        Long cursorId = position != null ? position[1] : null;
+        Integer cursorValue = position != null ? (int) position[0] : null;
+
+        List<ThreadSummaryView> rows;
+        switch (sortKey) {
+            case "latest":
+                rows = threadRepository.findLatestPage(areaKey, cursorId, limit);
+                break;
+            case "views":
+                rows = threadRepository.findMostViewedPage(areaKey, cursorValue, cursorId, limit);
+                break;
+            case "likes":
+                rows = threadRepository.findMostLikedPage(areaKey, cursorValue, cursorId, limit);
+                break;
+            default:
+                throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + sort);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        List<ThreadDto> threads = toSummaryDtos(rows);
+        // userId가 있으면 좋아요 여부도 같은 응답에 채움 (IN 쿼리 1번)
+        if (userId != null && !threads.isEmpty()) {
+            Set<Long> liked = getLikedThreadIds(userId,
+                    threads.stream().map(ThreadDto::getThreadId).collect(Collectors.toList()));
+            threads.forEach(thread -> thread.setLikedByCurrentUser(liked.contains(thread.getThreadId())));
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            ThreadSummaryView last = rows.get(rows.size() - 1);
+            switch (sortKey) {
+                case "views" -> nextCursor = last.getCount() + "_" + last.getThreadId();
+                case "likes" -> nextCursor = last.getHeart() + "_" + last.getThreadId();
+                default -> nextCursor = String.valueOf(last.getThreadId());
+            }
+        }
+
+        return ThreadPageDto.builder()
+                .threads(threads)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 목록 페이지용 좋아요 여부 일괄 조회 (조회수 증가 없음, 쿼리 1번)
+     * @return threadIds 중 userId가 좋아요 누른 게시글 ID
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> getLikedThreadIds(Long userId, Collection<Long> threadIds) {
+        if (userId == null || threadIds == null || threadIds.isEmpty()) {
+            return Set.of();
+        }
+        if (threadIds.size() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 게시글은 최대 " + MAX_PAGE_SIZE + "개입니다.");
+        }
+        return new HashSet<>(threadLikeRepository.findLikedThreadIds(userId, new HashSet<>(threadIds)));
+    }
+
+    /**
+     * 인기 게시글 (메모리 순위에서 ID를 가져와 목록 컬럼만 조회)
+     * @param area null이면 전체 지역
+     */
+    @Transactional(readOnly = true)
+    public List<ThreadDto> getTrendingThreads(String area, Integer size) {
+        int limit = size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<Long> threadIds = threadTrendingService.top(AreaNormalizer.normalize(area), limit);
+        if (threadIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < threadIds.size(); i++) {
+            rank.put(threadIds.get(i), i);
+        }
+        // 삭제된 게시글은 조회 결과에서 자연히 빠짐
+        List<ThreadSummaryView> rows = new ArrayList<>(threadRepository.findSummariesByIds(threadIds));
+        rows.sort(Comparator.comparing(row -> rank.get(row.getThreadId())));
+        return toSummaryDtos(rows);
+    }
+
+    // 목록 컬럼 → DTO (첨부파일 경로는 한 번에 조회)
+    private List<ThreadDto> toSummaryDtos(List<ThreadSummaryView> rows) {
+        Map<Long, List<String>> filePaths = new HashMap<>();
+        if (!rows.isEmpty()) {
+            List<Long> threadIds = rows.stream().map(ThreadSummaryView::getThreadId).toList();
+            for (Object[] row : threadRepository.findFilePathsByThreadIds(threadIds)) {
+                filePaths.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((String) row[1]);
+            }
+        }
+
+        return rows.stream()
+                .map(row -> ThreadDto.builder()
+                        .threadId(row.getThreadId())
+                        .userId(row.getUserId())
+                        .title(row.getTitle())
+                        .author(row.getAuthor())
+                        .count(row.getCount())
+                        .heart(row.getHeart())
+                        .filePaths(filePaths.getOrDefault(row.getThreadId(), List.of()))
+                        .commentCount(row.getCommentCount())
+                        .area(row.getArea())
+                        .createDate(row.getCreateDate())
+                        .modifiedDate(row.getModifiedDate())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 커서 파싱 - 최신순은 "threadId", 조회수/좋아요순은 "정렬값_threadId"
+     * @return [정렬값, threadId], 커서가 없으면 null
+     */
+    private long[] parseCursor(String cursor, boolean withValue) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            if (!withValue) {
+                return new long[]{0, Long.parseLong(cursor)};
+            }
+            int separator = cursor.indexOf('_');
+            if (separator < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+            return new long[]{
+                    Integer.parseInt(cursor.substring(0, separator)),
+                    Long.parseLong(cursor.substring(separator + 1))
+            };
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+
     @Transactional // 게시글 삭제 (추추추가)
     public void deleteThread(Long id) {
         Thread thread = threadRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("해당 게시글이 없습니다."));
+        // 댓글은 cascade로 함께 삭제되므로 지우기 전에 작성자별 개수를 세어 둠
+        Map<Long, Long> commentsByUser = new HashMap<>();
+        for (Object[] row : commentRepository.countByUserForThread(id)) {
+            commentsByUser.put((Long) row[0], (Long) row[1]);
+        }
         threadRepository.delete(thread);
+        counterService.threadDeleted(thread.getUser().getUserId(), commentsByUser);
+        eventPublisher.publishEvent(new ThreadChangedEvent(id));
     }
 
     @Transactional // 게시글 수정
@@ -83,49 +289,143 @@ public class ThreadService {
         thread.setArea(dto.getArea());
         thread.setModifiedDate(LocalDateTime.now());
 
-        return threadRepository.save(thread);
+        Thread saved = threadRepository.save(thread);
+        eventPublisher.publishEvent(new ThreadChangedEvent(id));
+        return saved;
     }
     // 게시물 검색 기능 추추추추가 (수정함)
+    // page/size가 모두 없으면 기존처럼 일치한 글 전체를 반환 (프론트에서 페이지 처리)
     @Transactional(readOnly = true)
-    public List<ThreadDto> searchThreads(String keyword, String searchType, String sortBy) {
+    public List<ThreadDto> searchThreads(String keyword, String searchType, String sortBy, Integer page, Integer size) {
+        boolean paged = page != null || size != null;
+        int pageNumber = page == null ? 0 : Math.max(page, 0);
+        int pageSize = size == null ? MAX_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
         Sort sort = Sort.by(Sort.Direction.DESC, "createDate"); // 기본 최신순
         if ("views".equals(sortBy)) {
             sort = Sort.by(Sort.Direction.DESC, "count"); // 조회수 내림차순
         } else if ("likes".equals(sortBy)) {
             sort = Sort.by(Sort.Direction.DESC, "heart"); // 좋아요 내림차순
         } // 최신순은 기본값
+        sort = sort.and(Sort.by(Sort.Direction.DESC, "threadId")); // 페이지 경계가 흔들리지 않도록
+
+        // 전문 검색 색인 사용 (색인 준비 전에는 아래 LIKE 검색으로 대체)
+        if (threadSearchService.isReady()) {
+            List<Long> threadIds = searchWithIndex(keyword, searchType, sortBy);
+            if (paged) {
+                long offset = (long) pageNumber * pageSize;
+                threadIds = offset >= threadIds.size() ? List.of()
+                        : threadIds.subList((int) offset, (int) Math.min(threadIds.size(), offset + pageSize));
+            }
+            return toDtos(findAllInOrder(threadIds));
+        }
 
+        Pageable pageable = paged ? PageRequest.of(pageNumber, pageSize, sort) : Pageable.unpaged(sort);
         List<Thread> threads;
         // 검색 기준에 따라 쿼리 분기
         if ("author".equals(searchType)) {
             // 작성자 기준 검색
-            threads = threadRepository.findByAuthorContaining(keyword, sort);
+            threads = threadRepository.findByAuthorContaining(keyword, pageable);
         } else {
             // 기본값: 제목 + 내용 기준 검색
-            threads = threadRepository.findByTitleContainingOrContentContaining(keyword, keyword, sort);
+            threads = threadRepository.findByTitleContainingOrContentContaining(keyword, keyword, pageable);
         }
         // 검색된 Thread 목록을 DTO로 변환하여 반환
+        return toDtos(threads);
+    }
+    // 역색인 검색 - 일치한 글 전체의 ID를 요청한 순서로 (relevance: BM25 점수순)
+    // - 그 외 정렬은 일치한 글 전체의 정렬 값(작성일/조회수/좋아요)만 조회해 정렬, 동점이면 최신 글 먼저
+    private List<Long> searchWithIndex(String keyword, String searchType, String sortBy) {
+        List<InvertedIndex.Hit> hits = threadSearchService.search(keyword, "author".equals(searchType));
+        List<Long> threadIds = hits.stream().map(InvertedIndex.Hit::getDocId).collect(Collectors.toList());
+        if ("relevance".equals(sortBy) || threadIds.isEmpty()) {
+            return threadIds;
+        }
+
+        // [threadId, createDate, count, heart]
+        List<Object[]> keys = new ArrayList<>(threadIds.size());
+        for (int from = 0; from < threadIds.size(); from += ID_CHUNK_SIZE) {
+            keys.addAll(threadRepository.findSortKeysByIds(
+                    threadIds.subList(from, Math.min(threadIds.size(), from + ID_CHUNK_SIZE))));
+        }
+        Comparator<Object[]> order;
+        if ("views".equals(sortBy)) {
+            order = Comparator.comparing((Object[] row) -> (Integer) row[2]).reversed();
+        } else if ("likes".equals(sortBy)) {
+            order = Comparator.comparing((Object[] row) -> (Integer) row[3]).reversed();
+        } else {
+            order = Comparator.comparing((Object[] row) -> (LocalDateTime) row[1],
+                    Comparator.nullsLast(Comparator.reverseOrder()));
+        }
+        order = order.thenComparing((Object[] row) -> (Long) row[0], Comparator.reverseOrder());
+        // 색인 반영 전에 삭제된 게시글은 조회 결과에서 빠짐
+        return keys.stream().sorted(order).map(row -> (Long) row[0]).collect(Collectors.toList());
+    }
+
+    // ID 순서대로 게시글 조회 (IN 절은 ID_CHUNK_SIZE개씩, 삭제된 게시글은 빠짐)
+    private List<Thread> findAllInOrder(List<Long> threadIds) {
+        Map<Long, Thread> byId = new HashMap<>();
+        for (int from = 0; from < threadIds.size(); from += ID_CHUNK_SIZE) {
+            threadRepository.findAllById(threadIds.subList(from, Math.min(threadIds.size(), from + ID_CHUNK_SIZE)))
+                    .forEach(thread -> byId.put(thread.getThreadId(), thread));
+        }
+        List<Thread> threads = new ArrayList<>(byId.size());
+        for (Long threadId : threadIds) {
+            Thread thread = byId.get(threadId);
+            if (thread != null) {
+                threads.add(thread);
+            }
+        }
+        return threads;
+    }
+
+    // 게시글 → DTO (첨부파일/댓글은 ID_CHUNK_SIZE개씩 IN 쿼리로 한 번에 조회)
+    private List<ThreadDto> toDtos(List<Thread> threads) {
+        Map<Long, List<String>> filePaths = new HashMap<>();
+        Map<Long, List<Comment>> comments = new HashMap<>();
+        for (int from = 0; from < threads.size(); from += ID_CHUNK_SIZE) {
+            List<Long> threadIds = threads.subList(from, Math.min(threads.size(), from + ID_CHUNK_SIZE)).stream()
+                    .map(Thread::getThreadId)
+                    .toList();
+            for (Object[] row : threadRepository.findFilePathsByThreadIds(threadIds)) {
+                filePaths.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((String) row[1]);
+            }
+            for (Comment comment : commentRepository.findByThreadIds(threadIds)) {
+                comments.computeIfAbsent(comment.getThread().getThreadId(), k -> new ArrayList<>()).add(comment);
+            }
+        }
         return threads.stream()
-                .map(this::convertToDto)
+                .map(thread -> convertToDto(thread,
+                        filePaths.getOrDefault(thread.getThreadId(), List.of()),
+                        comments.getOrDefault(thread.getThreadId(), List.of())))
                 .collect(Collectors.toList());
     }
-    @Transactional // 게시물 조회수 증가 및 상세 조회
+
+    @Transactional(readOnly = true) // 게시물 조회수 증가 및 상세 조회
     public ThreadDto getThreadDetail(Long threadId) {
         Thread thread = threadRepository.findById(threadId)
                 .orElseThrow(() -> new RuntimeException("게시글 없음"));
 
-        // 조회수 증가
-        thread.setCount(thread.getCount() + 1);
+        // 조회수 증가 (메모리 카운터, DB에는 주기적으로 반영)
+        threadViewCounter.increment(threadId);
+        eventPublisher.publishEvent(new ThreadActivityEvent(threadId, thread.getArea(), ThreadActivityEvent.Type.VIEW));
 
+        // DTO 변환 후 반환 (미반영 증가분 포함)
+        ThreadDto dto = convertToDto(thread);
+        dto.setCount(viewCount(thread));
+        return dto;
+    }
 
-        // 변경사항 저장
-        threadRepository.save(thread);
-
-        // DTO 변환 후 반환
-        return convertToDto(thread);
+    // DB 조회수 + 아직 반영되지 않은 증가분
+    private int viewCount(Thread thread) {
+        return (int) (thread.getCount() + threadViewCounter.pending(thread.getThreadId()));
     }
     // DTO 변환 메서드 추가
     private ThreadDto convertToDto(Thread thread) {
+        return convertToDto(thread, thread.getFilePaths(), thread.getComments());
+    }
+
+    // 첨부파일/댓글을 미리 조회해 둔 경우 (지연 로딩 없이 변환)
+    private ThreadDto convertToDto(Thread thread, List<String> filePaths, List<Comment> comments) {
         ThreadDto dto = new ThreadDto();
         dto.setThreadId(thread.getThreadId());
         dto.setUserId(thread.getUser().getUserId());
@@ -135,15 +435,15 @@ public class ThreadService {
         dto.setCount(thread.getCount());
         dto.setHeart(thread.getHeart());
 
-        dto.setFilePaths(thread.getFilePaths()); // 파일 업로드
+        dto.setFilePaths(filePaths); // 파일 업로드
         dto.setCommentCount(thread.getCommentCount());
         dto.setArea(thread.getArea());
         dto.setCreateDate(thread.getCreateDate());
         dto.setModifiedDate(thread.getModifiedDate());
 
         //  댓글 리스트를 CommentDto 리스트로 변환 7/2 파일업로드 커맨트 null추가
-        List<CommentDto> commentDtos = thread.getComments() != null
-                ? thread.getComments() .stream().map(comment -> {
+        List<CommentDto> commentDtos = comments != null
+                ? comments.stream().map(comment -> {
             CommentDto commentDto = new CommentDto();
             commentDto.setCommentId(comment.getCommentId());
             commentDto.setThreadId(thread.getThreadId());
@@ -164,56 +464,77 @@ public class ThreadService {
     }
     @Transactional // 좋아요 토글 메서드 추가 7/1
     public ThreadDto toggleLike(Long threadId, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자 없음"));
-        Thread thread = threadRepository.findById(threadId)
-                .orElseThrow(() -> new RuntimeException("게시글 없음"));
-// 7/1
-        Optional<ThreadLike> existingLike = threadLikeRepository.findByUserAndThread(user, thread);
+        checkLikeTarget(threadId, userId);
 
-        boolean liked;
+        // 추가가 0건(이미 있음)이면 삭제 - 없는 키를 먼저 DELETE하면 갭 잠금이 잡혀 동시 INSERT끼리 교착
+        // 같은 게시글의 좋아요 변경은 게시글 행 잠금으로 차례로 처리되므로 중복키/카운터 오차 없음
+        boolean liked = threadLikeRepository.insertIfAbsent(userId, threadId) == 1;
+        int changed = liked ? 1 : -threadLikeRepository.deleteByUserIdAndThreadId(userId, threadId);
+        return applyLikeChange(threadId, changed, liked);
+    }
 
-        if (existingLike.isPresent()) {
-            // 이미 좋아요 누른 상태 → 취소
-            threadLikeRepository.delete(existingLike.get());
-            thread.setHeart(thread.getHeart() - 1);
-            liked = false;
-        } else {
-            // 좋아요 추가
-            ThreadLike like = new ThreadLike();
-            like.setUser(user);
-            like.setThread(thread);
-            threadLikeRepository.save(like);
-            thread.setHeart(thread.getHeart() + 1);
-            liked = true;
-        }
+    /**
+     * 좋아요 설정/해제 (멱등) - 이미 같은 상태면 아무것도 바꾸지 않음
+     */
+    @Transactional
+    public ThreadDto setLike(Long threadId, Long userId, boolean liked) {
+        checkLikeTarget(threadId, userId);
+
+        int changed = liked
+                ? threadLikeRepository.insertIfAbsent(userId, threadId)
+                : -threadLikeRepository.deleteByUserIdAndThreadId(userId, threadId);
+        return applyLikeChange(threadId, changed, liked);
+    }
 
-        threadRepository.save(thread);
+    // 존재 확인과 함께 게시글 행을 잠가 같은 게시글의 좋아요 변경을 차례로 처리 (잠금 순서: 게시글 → thread_like)
+    private void checkLikeTarget(Long threadId, Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("사용자 없음");
+        }
+        if (threadRepository.lockForLike(threadId).isEmpty()) {
+            throw new RuntimeException("게시글 없음");
+        }
+    }
 
+    // heart는 CounterService의 "heart = heart + ?"로만 변경 (실제로 바뀐 행 수만큼)
+    private ThreadDto applyLikeChange(Long threadId, int delta, boolean liked) {
+        if (delta != 0) {
+            counterService.addHeart(threadId, delta);
+        }
+        ThreadDto dto = toLikeDto(threadId, liked);
+        if (delta != 0) {
+            eventPublisher.publishEvent(new ThreadActivityEvent(threadId, dto.getArea(),
+                    delta > 0 ? ThreadActivityEvent.Type.LIKE : ThreadActivityEvent.Type.UNLIKE));
+        }
+        return dto;
+    }
 
+    private ThreadDto toLikeDto(Long threadId, boolean liked) {
+        Thread thread = threadRepository.findById(threadId)
+                .orElseThrow(() -> new RuntimeException("게시글 없음"));
         return ThreadDto.builder()
                 .threadId(thread.getThreadId())
                 .userId(thread.getUser().getUserId())
                 .title(thread.getTitle())
                 .content(thread.getContent())
                 .author(thread.getAuthor())
-                .count(thread.getCount())
+                .count(viewCount(thread))
                 .heart(thread.getHeart())
                 .filePaths(thread.getFilePaths()) // 파일 업로드
                 .commentCount(thread.getCommentCount())
                 .area(thread.getArea())
                 .createDate(thread.getCreateDate())
                 .modifiedDate(thread.getModifiedDate())
-                .likedByCurrentUser(liked) // 토글 후 상태를 명확히 반환
+                .likedByCurrentUser(liked) // 변경 후 상태를 명확히 반환
                 .build();
     }
     // 게시글에 현재 좋아요 누른 사용자 저장 7/1
     public ThreadDto getThreadById(Long threadId, Long userId) {
         Thread thread = threadRepository.findById(threadId)
                 .orElseThrow(() -> new RuntimeException("게시글이 없습니다."));
-        // ✅ 조회수 증가
-        thread.setCount(thread.getCount() + 1);
-        threadRepository.save(thread);
+        // ✅ 조회수 증가 (메모리 카운터, DB에는 주기적으로 반영)
+        threadViewCounter.increment(threadId);
+        eventPublisher.publishEvent(new ThreadActivityEvent(threadId, thread.getArea(), ThreadActivityEvent.Type.VIEW));
 
 
         User user = userRepository.findById(userId)
@@ -229,7 +550,7 @@ public class ThreadService {
                 .title(thread.getTitle())
                 .content(thread.getContent())
                 .author(thread.getAuthor())
-                .count(thread.getCount())
+                .count(viewCount(thread))
                 .heart(thread.getHeart())
 
                 .filePaths(thread.getFilePaths()) // ✅ 여러 개 파일 경로
@@ -0,0 +1,179 @@
+package com.example.tour_backend.service;
+
+import com.example.tour_backend.domain.thread.ThreadRepository;
+import com.example.tour_backend.domain.thread.ThreadTrendingScore;
+import com.example.tour_backend.domain.thread.ThreadTrendingScoreRepository;
+import com.example.tour_backend.event.ThreadActivityEvent;
+import com.example.tour_backend.event.ThreadChangedEvent;
+import com.example.tour_backend.util.AreaNormalizer;
+import com.example.tour_backend.util.TrendingRanker;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 게시글 (조회/좋아요/댓글에 시간 감쇠를 적용한 점수)
+ * - 활동 이벤트로 메모리 순위를 증분 갱신하고 조회는 메모리에서만 처리
+ * - 지역은 정규화 키(AreaNormalizer) 기준으로 집계
+ * - 주기적으로 thread_trending_score에 저장, 시작 시 복원 (저장본이 없으면 최근 게시글 통계로 초기화)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ThreadTrendingService {
+    private static final String INSERT_SQL =
+            "INSERT INTO thread_trending_score (thread_id, area, score, scored_at) VALUES (?, ?, ?, ?)";
+    private static final double MIN_SCORE = 0.01;
+
+    private final ThreadRepository threadRepository;
+    private final ThreadTrendingScoreRepository threadTrendingScoreRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${thread.trending.half-life-hours:24}")
+    private long halfLifeHours;
+
+    @Value("${thread.trending.top-k:50}")
+    private int topK;
+
+    @Value("${thread.trending.seed-days:7}")
+    private int seedDays;
+
+    @Value("${thread.trending.weight.view:1}")
+    private double viewWeight;
+
+    @Value("${thread.trending.weight.like:5}")
+    private double likeWeight;
+
+    @Value("${thread.trending.weight.comment:3}")
+    private double commentWeight;
+
+    private TrendingRanker ranker;
+    private volatile boolean loaded = false; // 복원 전에 저장하면 저장본이 빈 목록으로 덮어써지므로 확인
+
+    @PostConstruct
+    public void init() {
+        ranker = new TrendingRanker(halfLifeHours * 3_600_000L, topK, MIN_SCORE, System.currentTimeMillis());
+    }
+
+    /**
+     * 인기 게시글 ID (점수 내림차순)
+     * @param areaKey 정규화된 지역 키, null이면 전체
+     */
+    public List<Long> top(String areaKey, int limit) {
+        return ranker.top(areaKey, Math.min(limit, topK), System.currentTimeMillis()).stream()
+                .map(row -> (long) row[0])
+                .collect(Collectors.toList());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivity(ThreadActivityEvent event) {
+        long now = System.currentTimeMillis();
+        String area = AreaNormalizer.normalize(event.getArea());
+        switch (event.getType()) {
+            case VIEW -> ranker.record(event.getThreadId(), area, viewWeight, now);
+            case LIKE -> ranker.recordLike(event.getThreadId(), area, likeWeight, now);
+            case UNLIKE -> ranker.removeLike(event.getThreadId());
+            case COMMENT -> ranker.record(event.getThreadId(), area, commentWeight, now);
+        }
+    }
+
+    /**
+     * 삭제된 게시글은 순위에서 제거 (상위 목록에 남으면 조회 결과가 size보다 적어짐)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onThreadChanged(ThreadChangedEvent event) {
+        if (!threadRepository.existsById(event.getThreadId())) {
+            ranker.remove(event.getThreadId());
+        }
+    }
+
+    /**
+     * 저장본 복원 (없으면 최근 게시글의 누적 통계를 작성 시각 기준으로 감쇠해 초기화)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<ThreadTrendingScore> saved = threadTrendingScoreRepository.findAll();
+        if (!saved.isEmpty()) {
+            for (ThreadTrendingScore row : saved) {
+                ranker.record(row.getThreadId(), row.getArea(), row.getScore(), toMillis(row.getScoredAt()));
+            }
+            log.info("인기 게시글 점수 복원: {}건", saved.size());
+        } else {
+            LocalDateTime since = LocalDateTime.now().minusDays(seedDays);
+            List<Object[]> rows = threadRepository.findActivitySince(since);
+            for (Object[] row : rows) {
+                // [threadId, area, count, heart, commentCount, createDate]
+                double score = ((Number) row[2]).intValue() * viewWeight
+                        + ((Number) row[3]).intValue() * likeWeight
+                        + ((Number) row[4]).intValue() * commentWeight;
+                if (score > 0 && row[5] != null) {
+                    ranker.record((Long) row[0], AreaNormalizer.normalize((String) row[1]), score,
+                            toMillis((LocalDateTime) row[5]));
+                }
+            }
+            log.info("인기 게시글 점수 초기화: 최근 {}일 게시글 {}건", seedDays, rows.size());
+        }
+        ranker.maintain(System.currentTimeMillis());
+        loaded = true;
+    }
+
+    /**
+     * 낮은 점수 정리 + 상위 목록 재구성
+     */
+    @Scheduled(fixedDelayString = "${thread.trending.maintain-interval-ms:60000}")
+    public void maintain() {
+        ranker.maintain(System.currentTimeMillis());
+    }
+
+    /**
+     * 현재 점수 저장 (전체 교체)
+     */
+    @Scheduled(fixedDelayString = "${thread.trending.persist-interval-ms:300000}")
+    public void persist() {
+        if (!loaded) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        List<Object[]> rows = ranker.snapshot(now);
+        Timestamp scoredAt = new Timestamp(now);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update("DELETE FROM thread_trending_score");
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows, 500, (ps, row) -> {
+                    ps.setLong(1, (Long) row[0]);
+                    ps.setString(2, (String) row[1]);
+                    ps.setDouble(3, (Double) row[2]);
+                    ps.setTimestamp(4, scoredAt);
+                });
+            });
+            log.debug("인기 게시글 점수 저장: {}건", rows.size());
+        } catch (Exception e) {
+            log.error("인기 게시글 점수 저장 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        persist();
+    }
+
+    private long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
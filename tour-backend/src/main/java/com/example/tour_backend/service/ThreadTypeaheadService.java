@@ -0,0 +1,199 @@
+package com.example.tour_backend.service;
+
+import com.example.tour_backend.domain.place.PlaceRepository;
+import com.example.tour_backend.domain.thread.Thread;
+import com.example.tour_backend.domain.thread.ThreadRepository;
+import com.example.tour_backend.dto.thread.AreaFacetDto;
+import com.example.tour_backend.dto.thread.SuggestionDto;
+import com.example.tour_backend.event.ThreadActivityEvent;
+import com.example.tour_backend.event.ThreadChangedEvent;
+import com.example.tour_backend.util.search.CompletionTrie;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 검색어 자동완성 (게시글 제목 + 지역 + 장소 이름)
+ * - 자모 단위 압축 트라이(CompletionTrie)에서 접두어로 찾고 인기도 순으로 상위 N개 반환
+ *   → "젲"처럼 입력 중인 글자도 "제주"에 매칭
+ * - 게시글은 생성/수정/삭제·활동 이벤트로 증분 갱신, 지역/장소 목록은 주기적으로 다시 맞춤
+ * - 메모리 사용량은 /api/thread/suggest/stats 와 thread.typeahead.* 지표로 확인
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ThreadTypeaheadService {
+    public static final String TYPE_THREAD = "THREAD";
+    public static final String TYPE_AREA = "AREA";
+    public static final String TYPE_PLACE = "PLACE";
+
+    private static final int DEFAULT_SIZE = 10;
+    private static final int MAX_SIZE = 20;
+
+    private final ThreadRepository threadRepository;
+    private final PlaceRepository placeRepository;
+    private final AreaFacetService areaFacetService;
+    private final MeterRegistry meterRegistry;
+
+    // 자동완성 키로 쓸 제목 최대 길이 (긴 제목 전체를 트라이에 넣지 않음)
+    @Value("${thread.typeahead.max-title-length:50}")
+    private int maxTitleLength;
+
+    @Value("${thread.typeahead.weight.view:1}")
+    private double viewWeight;
+
+    @Value("${thread.typeahead.weight.like:5}")
+    private double likeWeight;
+
+    @Value("${thread.typeahead.weight.comment:3}")
+    private double commentWeight;
+
+    // 지역은 게시글 수 × 이 값 (개별 게시글보다 위에 오도록)
+    @Value("${thread.typeahead.weight.area:10}")
+    private double areaWeight;
+
+    private final CompletionTrie trie = new CompletionTrie();
+
+    // 주기 갱신 때 사라진 지역/장소를 지우기 위한 현재 항목 ID
+    private Set<String> areaIds = new HashSet<>();
+    private Set<String> placeIds = new HashSet<>();
+
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("thread.typeahead.entries", trie, t -> t.stats().getEntries())
+                .description("자동완성 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("thread.typeahead.bytes", trie, t -> t.stats().getEstimatedBytes())
+                .description("자동완성 트라이 추정 메모리 (byte)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 접두어 자동완성 (인기도 내림차순)
+     */
+    public List<SuggestionDto> suggest(String prefix, Integer size) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        int limit = size == null ? DEFAULT_SIZE : Math.max(1, Math.min(size, MAX_SIZE));
+        return trie.complete(prefix, limit).stream()
+                .map(entry -> SuggestionDto.builder()
+                        .type(entry.getType())
+                        .text(entry.getText())
+                        .value(entry.getId().substring(entry.getId().indexOf(':') + 1))
+                        .weight(entry.getWeight())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    public CompletionTrie.Stats stats() {
+        return trie.stats();
+    }
+
+    /**
+     * 시작 시 전체 게시글 제목 적재 (지역/장소는 refreshCatalog에서)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Object[]> rows = threadRepository.findAllTitleStats();
+        for (Object[] row : rows) {
+            // [threadId, title, count, heart, commentCount]
+            putThread((Long) row[0], (String) row[1],
+                    ((Number) row[2]).intValue(), ((Number) row[3]).intValue(), ((Number) row[4]).intValue());
+        }
+        refreshCatalog();
+        CompletionTrie.Stats stats = trie.stats();
+        log.info("자동완성 적재: 게시글 {}건, 전체 항목 {}개, 노드 {}개, 약 {}KB",
+                rows.size(), stats.getEntries(), stats.getNodes(), stats.getEstimatedBytes() / 1024);
+    }
+
+    /**
+     * 게시글 변경 반영 (커밋 후 최신 제목/통계로 교체, 삭제됐으면 제거)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onThreadChanged(ThreadChangedEvent event) {
+        try {
+            Optional<Thread> thread = threadRepository.findById(event.getThreadId());
+            if (thread.isPresent()) {
+                Thread t = thread.get();
+                putThread(t.getThreadId(), t.getTitle(), t.getCount(), t.getHeart(), t.getCommentCount());
+            } else {
+                trie.remove(threadId(event.getThreadId()));
+            }
+        } catch (Exception e) {
+            log.error("자동완성 갱신 실패: threadId={}", event.getThreadId(), e);
+        }
+    }
+
+    /**
+     * 조회/좋아요/댓글은 가중치만 조정 (트라이 구조는 그대로)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivity(ThreadActivityEvent event) {
+        double delta = switch (event.getType()) {
+            case VIEW -> viewWeight;
+            case LIKE -> likeWeight;
+            case UNLIKE -> -likeWeight;
+            case COMMENT -> commentWeight;
+        };
+        trie.adjustWeight(threadId(event.getThreadId()), delta);
+    }
+
+    /**
+     * 지역(게시글 수 기준)과 장소(평점 기준) 목록 갱신
+     */
+    @Scheduled(fixedDelayString = "${thread.typeahead.refresh-interval-ms:600000}",
+            initialDelayString = "${thread.typeahead.refresh-interval-ms:600000}")
+    public synchronized void refreshCatalog() {
+        Set<String> areas = new HashSet<>();
+        for (AreaFacetDto facet : areaFacetService.getFacets()) {
+            String id = TYPE_AREA + ":" + facet.getAreaKey();
+            trie.put(id, facet.getLabel(), TYPE_AREA, facet.getCount() * areaWeight);
+            areas.add(id);
+        }
+        areaIds.stream().filter(id -> !areas.contains(id)).forEach(trie::remove);
+        areaIds = areas;
+
+        Set<String> places = new HashSet<>();
+        for (Object[] row : placeRepository.findAllNames()) {
+            // [placeId, name, rating]
+            String id = TYPE_PLACE + ":" + row[0];
+            double rating = row[2] != null ? ((Number) row[2]).doubleValue() : 0;
+            trie.put(id, (String) row[1], TYPE_PLACE, 1 + rating);
+            places.add(id);
+        }
+        placeIds.stream().filter(id -> !places.contains(id)).forEach(trie::remove);
+        placeIds = places;
+    }
+
+    private void putThread(Long threadId, String title, int count, int heart, int commentCount) {
+        if (title == null || title.isBlank()) {
+            trie.remove(threadId(threadId));
+            return;
+        }
+        String text = title.strip();
+        if (text.length() > maxTitleLength) {
+            text = text.substring(0, maxTitleLength);
+        }
+        double weight = 1 + count * viewWeight + heart * likeWeight + commentCount * commentWeight;
+        trie.put(threadId(threadId), text, TYPE_THREAD, weight);
+    }
+
+    private String threadId(Long threadId) {
+        return TYPE_THREAD + ":" + threadId;
+    }
+}
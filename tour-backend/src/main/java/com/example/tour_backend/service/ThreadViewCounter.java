@@ -0,0 +1,144 @@
+package com.example.tour_backend.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 조회수 write-behind 카운터
+ * - 조회 시에는 게시글별 LongAdder만 증가 (행 잠금/엔티티 저장 없음)
+ * - 주기적으로, 그리고 종료 시 "count = count + ?" 배치 UPDATE로 반영
+ * - 반영 실패 시 증가분을 되돌려 다음 주기에 다시 시도
+ * - 한 주기 동안 조회가 없던 게시글의 카운터는 제거 (조회된 적 있는 모든 게시글이 계속 남지 않도록)
+ * - 지표: thread.views.pending (미반영 증가분), thread.views.flush (반영 소요 시간)
+ */
+@Slf4j
+@Service
+public class ThreadViewCounter {
+    private static final String UPDATE_SQL = "UPDATE thread SET count = count + ? WHERE thread_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Timer flushTimer;
+
+    public ThreadViewCounter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushTimer = Timer.builder("thread.views.flush")
+                .description("조회수 배치 반영 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("thread.views.pending", this, ThreadViewCounter::pendingTotal)
+                .description("DB에 아직 반영되지 않은 조회수 증가분")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회수 1 증가
+     */
+    public void increment(Long threadId) {
+        LongAdder adder = pending.computeIfAbsent(threadId, id -> new LongAdder());
+        adder.increment();
+        // flush가 그사이 이 카운터를 제거했으면 남은 값을 새 카운터로 옮김 (sumThenReset이라 flush와 중복 이동 없음)
+        if (pending.get(threadId) != adder) {
+            moveLate(threadId, adder);
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증가분 (응답의 조회수 = DB 값 + 이 값)
+     */
+    public long pending(Long threadId) {
+        LongAdder adder = pending.get(threadId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    public long pendingTotal() {
+        long total = 0;
+        for (LongAdder adder : pending.values()) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    /**
+     * 증가분 배치 반영
+     */
+    @Scheduled(fixedDelayString = "${thread.view.flush-interval-ms:5000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            long started = System.nanoTime();
+
+            // sumThenReset 이후의 증가분은 카운터에 남아 다음 주기에 반영됨
+            List<long[]> rows = new ArrayList<>();
+            pending.forEach((threadId, adder) -> {
+                long delta = adder.sumThenReset();
+                if (delta != 0) {
+                    rows.add(new long[]{threadId, delta});
+                } else if (pending.remove(threadId, adder)) {
+                    // 제거 직전에 들어온 증가분은 새 카운터로 옮김
+                    moveLate(threadId, adder);
+                }
+            });
+            if (rows.isEmpty()) {
+                return;
+            }
+            // 잠금 순서를 일정하게 (교착 방지)
+            rows.sort((a, b) -> Long.compare(a[0], b[0]));
+
+            try {
+                int[][] results = jdbcTemplate.batchUpdate(UPDATE_SQL, rows, rows.size(), (ps, row) -> {
+                    ps.setLong(1, row[1]);
+                    ps.setLong(2, row[0]);
+                });
+                // 삭제된 게시글의 카운터는 정리
+                int index = 0;
+                for (int[] batch : results) {
+                    for (int updated : batch) {
+                        if (updated == 0) {
+                            pending.remove(rows.get(index)[0]);
+                        }
+                        index++;
+                    }
+                }
+                log.debug("조회수 반영: {}개 게시글", rows.size());
+            } catch (Exception e) {
+                for (long[] row : rows) {
+                    pending.computeIfAbsent(row[0], id -> new LongAdder()).add(row[1]);
+                }
+                log.error("조회수 반영 실패 ({}개 게시글), 다음 주기에 재시도", rows.size(), e);
+            } finally {
+                flushTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void moveLate(Long threadId, LongAdder removed) {
+        long late = removed.sumThenReset();
+        if (late != 0) {
+            pending.computeIfAbsent(threadId, id -> new LongAdder()).add(late);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+}
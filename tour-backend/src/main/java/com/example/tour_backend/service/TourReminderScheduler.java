@@ -0,0 +1,153 @@
+package com.example.tour_backend.service;
+
+import com.example.tour_backend.domain.reminder.TourReminder;
+import com.example.tour_backend.domain.reminder.TourReminderRepository;
+import com.example.tour_backend.event.TourRemindersPlannedEvent;
+import com.example.tour_backend.util.HierarchicalTimingWheel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 여행 리마인더 스케줄러
+ * - 앞으로 horizon 시간 안에 도래할 리마인더만 DB에서 읽어 계층형 타이밍 휠에 적재
+ * - 적재 구간이 절반 이하로 남으면 이어서 다음 구간만 추가 적재 (전체 테이블 폴링 없음)
+ * - 재시작 시 catch-up 시간만큼 되돌아가 놓친 리마인더를 다시 읽음 (발송 여부는 DB의 sent 플래그로 판단)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TourReminderScheduler {
+    private static final long TICK_MILLIS = 60_000L;
+    private static final int PAGE_SIZE = 500;
+
+    private final TourReminderRepository tourReminderRepository;
+    private final TourReminderService tourReminderService;
+
+    @Value("${tour.reminder.horizon-hours:24}")
+    private long horizonHours;
+
+    @Value("${tour.reminder.catch-up-hours:12}")
+    private long catchUpHours;
+
+    private HierarchicalTimingWheel<TourReminder> wheel;
+    private final Set<Long> scheduledIds = new HashSet<>(); // 휠에 올라간 리마인더 (중복 적재 방지)
+    private final List<TourReminder> overdue = new ArrayList<>(); // 적재 시점에 이미 도래한 리마인더
+    private LocalDateTime loadedUntil; // 이 시각 이전의 미발송 리마인더는 모두 적재됨
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        // 1분 x 60, 1시간 x 24, 1일 x 8
+        wheel = new HierarchicalTimingWheel<>(TICK_MILLIS, System.currentTimeMillis(), 60, 24, 8);
+        loadedUntil = now().minusHours(catchUpHours);
+        refill();
+        log.info("여행 리마인더 스케줄러 시작: 적재 {}건, 지연 {}건", wheel.size(), overdue.size());
+    }
+
+    @Scheduled(fixedDelay = TICK_MILLIS, initialDelay = TICK_MILLIS)
+    public void tick() {
+        List<TourReminder> due = new ArrayList<>();
+        synchronized (this) {
+            if (wheel == null) {
+                return;
+            }
+            if (loadedUntil.isBefore(now().plus(horizon().dividedBy(2)))) {
+                refill();
+            }
+            due.addAll(overdue);
+            overdue.clear();
+            wheel.advance(System.currentTimeMillis(), due::add);
+        }
+        if (!due.isEmpty()) {
+            dispatch(due);
+        }
+    }
+
+    /**
+     * 커밋된 재계획이 이미 적재한 구간 안에 있으면 그 지점부터 다시 읽도록 되감기
+     */
+    @TransactionalEventListener
+    public synchronized void onRemindersPlanned(TourRemindersPlannedEvent event) {
+        if (loadedUntil != null && event.getEarliestFireAt().isBefore(loadedUntil)) {
+            loadedUntil = event.getEarliestFireAt();
+        }
+    }
+
+    private void dispatch(List<TourReminder> due) {
+        try {
+            int sent = tourReminderService.send(due);
+            log.info("여행 리마인더 발송: 대상 {}건, 발송 {}건", due.size(), sent);
+        } catch (RuntimeException e) {
+            // 다음 적재 때 다시 읽어 재시도 (이미 커밋된 건은 sent 플래그로 걸러짐)
+            log.error("여행 리마인더 발송 실패, 재시도 예정: {}", e.getMessage(), e);
+            LocalDateTime earliest = due.stream().map(TourReminder::getFireAt).min(LocalDateTime::compareTo).get();
+            synchronized (this) {
+                if (earliest.isBefore(loadedUntil)) {
+                    loadedUntil = earliest;
+                }
+            }
+        } finally {
+            synchronized (this) {
+                due.forEach(r -> scheduledIds.remove(r.getId()));
+            }
+        }
+    }
+
+    /**
+     * [loadedUntil, now + horizon) 구간의 미발송 리마인더를 키셋 페이지로 적재
+     */
+    private void refill() {
+        LocalDateTime until = now().plus(horizon());
+        LocalDateTime afterFireAt = loadedUntil;
+        long afterId = 0L;
+        int loaded = 0;
+
+        while (true) {
+            List<TourReminder> page = tourReminderRepository.findDue(
+                    afterFireAt, afterId, until, PageRequest.of(0, PAGE_SIZE));
+            for (TourReminder reminder : page) {
+                if (scheduledIds.add(reminder.getId())) {
+                    long fireMillis = reminder.getFireAt().atZone(tourReminderService.zone()).toInstant().toEpochMilli();
+                    if (!wheel.add(fireMillis, reminder)) {
+                        overdue.add(reminder);
+                    }
+                    loaded++;
+                }
+            }
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+            TourReminder last = page.get(page.size() - 1);
+            afterFireAt = last.getFireAt();
+            afterId = last.getId();
+        }
+
+        loadedUntil = until;
+        if (loaded > 0) {
+            log.debug("여행 리마인더 적재: {}건 (~{})", loaded, until);
+        }
+    }
+
+    private Duration horizon() {
+        // 휠이 담을 수 있는 구간의 절반을 넘지 않도록 제한 (휠 시각과 현재 시각의 차이 여유)
+        long maxMillis = wheel.spanMillis() / 2;
+        return Duration.ofMillis(Math.min(Duration.ofHours(horizonHours).toMillis(), maxMillis));
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(tourReminderService.zone());
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.tour_backend.service;
+
+import com.example.tour_backend.domain.notification.Notification;
+import com.example.tour_backend.domain.notification.NotificationRepository;
+import com.example.tour_backend.domain.notification.NotificationType;
+import com.example.tour_backend.domain.reminder.ReminderKind;
+import com.example.tour_backend.domain.reminder.TourReminder;
+import com.example.tour_backend.domain.reminder.TourReminderRepository;
+import com.example.tour_backend.domain.tour.Tour;
+import com.example.tour_backend.domain.tour.TourRepository;
+import com.example.tour_backend.domain.user.UserRepository;
+import com.example.tour_backend.dto.tour.plan.TravelPlanDto;
+import com.example.tour_backend.event.NotificationsCreatedEvent;
+import com.example.tour_backend.event.TourRemindersPlannedEvent;
+import com.example.tour_backend.util.tour.ScheduleDateCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 여행 리마인더 계획/발송
+ * - 계획: 여행 생성/수정 시 "출발 N일 전"과 "일정이 있는 날 아침" 리마인더를 배치 INSERT
+ * - 발송: TourReminderScheduler가 전달한 리마인더를 조건부 UPDATE 후 알림으로 저장
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TourReminderService {
+    private static final int MAX_TITLE_LENGTH = 100; // message 225자 - 고정 문구
+    // (tour_id, kind, remind_date) 유니크 → 이미 발송된 리마인더는 다시 만들지 않음
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO tour_reminder (tour_id, user_id, kind, remind_date, fire_at, message, sent) " +
+            "VALUES (?, ?, ?, ?, ?, ?, false)";
+
+    private final TourReminderRepository tourReminderRepository;
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+    private final TourRepository tourRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${tour.reminder.days-before:3,1}")
+    private int[] daysBefore;
+
+    @Value("${tour.reminder.morning-time:08:00}")
+    private String morningTime;
+
+    @Value("${tour.reminder.zone:Asia/Seoul}")
+    private String zone;
+
+    public ZoneId zone() {
+        return ZoneId.of(zone);
+    }
+
+    /**
+     * 여행 계획의 리마인더 재계획 (미발송 리마인더 교체)
+     */
+    @Transactional
+    public void planReminders(Tour tour, TravelPlanDto planData) {
+        tourReminderRepository.deleteUnsentByTourId(tour.getTourId());
+
+        LocalDateTime now = LocalDateTime.now(zone());
+        LocalTime morning = LocalTime.parse(morningTime);
+        List<TourReminder> reminders = new ArrayList<>();
+
+        String title = shortTitle(tour.getTitle());
+        for (int days : daysBefore) {
+            LocalDate date = tour.getStartDate().minusDays(days);
+            reminders.add(reminder(tour, ReminderKind.BEFORE_START, date, morning,
+                    "'" + title + "' 여행 출발까지 " + days + "일 남았습니다."));
+        }
+
+        Map<LocalDate, Integer> scheduleCounts =
+                ScheduleDateCounter.countByDate(planData, tour.getStartDate(), tour.getEndDate());
+        for (Map.Entry<LocalDate, Integer> day : scheduleCounts.entrySet()) {
+            long dayNumber = ChronoUnit.DAYS.between(tour.getStartDate(), day.getKey()) + 1;
+            reminders.add(reminder(tour, ReminderKind.DAY_MORNING, day.getKey(), morning,
+                    "오늘은 '" + title + "' 여행 " + dayNumber + "일차입니다. 예정된 일정 "
+                            + day.getValue() + "개를 확인하세요."));
+        }
+
+        reminders.removeIf(r -> !r.getFireAt().isAfter(now));
+        if (reminders.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, reminders, reminders.size(), (ps, r) -> {
+            ps.setLong(1, r.getTourId());
+            ps.setLong(2, r.getUserId());
+            ps.setString(3, r.getKind().name());
+            ps.setDate(4, Date.valueOf(r.getRemindDate()));
+            ps.setTimestamp(5, Timestamp.valueOf(r.getFireAt()));
+            ps.setString(6, r.getMessage());
+        });
+
+        LocalDateTime earliest = reminders.stream()
+                .map(TourReminder::getFireAt)
+                .min(LocalDateTime::compareTo)
+                .get();
+        eventPublisher.publishEvent(new TourRemindersPlannedEvent(tour.getTourId(), earliest));
+        log.debug("여행 리마인더 계획: tourId={}, count={}", tour.getTourId(), reminders.size());
+    }
+
+    /**
+     * 여행 계획 삭제 시 리마인더 정리
+     */
+    @Transactional
+    public void deleteReminders(Long tourId) {
+        tourReminderRepository.deleteByTourId(tourId);
+    }
+
+    /**
+     * 만료된 리마인더 발송 - 조건부 UPDATE에 성공한 건만 알림 생성 (재시작/다중 노드 중복 방지)
+     * @return 실제 발송 건수
+     */
+    @Transactional
+    public int send(List<TourReminder> due) {
+        LocalDateTime now = LocalDateTime.now(zone());
+        List<Notification> notifications = new ArrayList<>();
+
+        for (TourReminder reminder : due) {
+            if (tourReminderRepository.markSent(reminder.getId(), now) == 0) {
+                continue; // 이미 발송되었거나 재계획으로 삭제됨
+            }
+            notifications.add(Notification.builder()
+                    .user(userRepository.getReferenceById(reminder.getUserId()))
+                    .type(NotificationType.TOUR_REMINDER)
+                    .tour(tourRepository.getReferenceById(reminder.getTourId()))
+                    .message(reminder.getMessage())
+                    .isRead(false)
+                    .build());
+        }
+
+        notificationRepository.saveAll(notifications);
+        if (!notifications.isEmpty()) {
+            eventPublisher.publishEvent(new NotificationsCreatedEvent(due.stream()
+                    .map(TourReminder::getUserId)
+                    .collect(Collectors.toSet())));
+        }
+        return notifications.size();
+    }
+
+    // 알림 문장(message 225자)에 들어가도록 긴 제목은 잘라서 사용
+    private static String shortTitle(String title) {
+        if (title == null) {
+            return "";
+        }
+        if (title.codePointCount(0, title.length()) <= MAX_TITLE_LENGTH) {
+            return title;
+        }
+        return title.substring(0, title.offsetByCodePoints(0, MAX_TITLE_LENGTH - 1)) + "…";
+    }
+
+    private TourReminder reminder(Tour tour, ReminderKind kind, LocalDate date, LocalTime time, String message) {
+        return TourReminder.builder()
+                .tourId(tour.getTourId())
+                .userId(tour.getUser().getUserId())
+                .kind(kind)
+                .remindDate(date)
+                .fireAt(date.atTime(time))
+                .message(message)
+                .build();
+    }
+}
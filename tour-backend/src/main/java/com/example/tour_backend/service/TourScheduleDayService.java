@@ -0,0 +1,95 @@
+package com.example.tour_backend.service;
+
+import com.example.tour_backend.domain.tour.Tour;
+import com.example.tour_backend.domain.tour.TourRepository;
+import com.example.tour_backend.domain.tour.TourScheduleDayRepository;
+import com.example.tour_backend.dto.tour.plan.TravelPlanDto;
+import com.example.tour_backend.util.JsonUtil;
+import com.example.tour_backend.util.tour.ScheduleDateCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 날짜별 일정 개수(tour_schedule_day) 관리
+ * - 여행 생성/수정 시 해당 여행의 행만 교체 → 캘린더 조회 시 planData를 파싱하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TourScheduleDayService {
+    private static final String INSERT_SQL =
+            "INSERT INTO tour_schedule_day (tour_id, schedule_date, schedule_count) VALUES (?, ?, ?)";
+    private static final int BACKFILL_PAGE_SIZE = 200;
+
+    private final TourScheduleDayRepository tourScheduleDayRepository;
+    private final TourRepository tourRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 여행 계획의 날짜별 일정 개수 갱신
+     */
+    @Transactional
+    public void refresh(Tour tour, TravelPlanDto planData) {
+        tourScheduleDayRepository.deleteByTourId(tour.getTourId());
+
+        Map<LocalDate, Integer> counts =
+                ScheduleDateCounter.countByDate(planData, tour.getStartDate(), tour.getEndDate());
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<LocalDate, Integer>> rows = new ArrayList<>(counts.entrySet());
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, tour.getTourId());
+            ps.setDate(2, Date.valueOf(row.getKey()));
+            ps.setInt(3, row.getValue());
+        });
+    }
+
+    @Transactional
+    public void delete(Long tourId) {
+        tourScheduleDayRepository.deleteByTourId(tourId);
+    }
+
+    /**
+     * 기존 여행 계획 백필 (테이블이 비어 있을 때 한 번만 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (tourScheduleDayRepository.count() > 0 || tourRepository.count() == 0) {
+            return;
+        }
+
+        // 페이지마다 별도 트랜잭션 (긴 트랜잭션 방지)
+        int pageNumber = 0;
+        boolean hasNext = true;
+        while (hasNext) {
+            PageRequest pageRequest = PageRequest.of(pageNumber++, BACKFILL_PAGE_SIZE, Sort.by("tourId"));
+            hasNext = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                Page<Tour> page = tourRepository.findAll(pageRequest);
+                for (Tour tour : page) {
+                    refresh(tour, JsonUtil.fromJsonSafe(tour.getPlanData()));
+                }
+                return page.hasNext();
+            }));
+        }
+
+        log.info("날짜별 일정 개수 백필 완료: {}페이지", pageNumber);
+    }
+}
@@ -1,35 +1,64 @@
 package com.example.tour_backend.service;
 
 import com.example.tour_backend.domain.tour.Tour;
+import com.example.tour_backend.domain.tour.TourPeriodView;
 import com.example.tour_backend.domain.tour.TourRepository;
+import com.example.tour_backend.domain.tour.TourScheduleDay;
+import com.example.tour_backend.domain.tour.TourScheduleDayRepository;
+import com.example.tour_backend.domain.tour.TourSpecifications;
 import com.example.tour_backend.domain.tour.BudgetType;
 import com.example.tour_backend.domain.user.User;
 import com.example.tour_backend.domain.user.UserRepository;
+import com.example.tour_backend.dto.tour.TourCalendarDto;
 import com.example.tour_backend.dto.tour.TourDto;
+import com.example.tour_backend.dto.tour.TourFilterDto;
 import com.example.tour_backend.dto.tour.plan.TravelPlanDto;
 import com.example.tour_backend.dto.tour.plan.PlanMetadataDto;
 import com.example.tour_backend.util.JsonUtil;
+import com.example.tour_backend.util.StreamUtil;
 import com.example.tour_backend.util.tour.TourDefaults;
 import com.example.tour_backend.util.ValidationUtil;
 import com.example.tour_backend.exception.GlobalExceptionHandler.TourNotFoundException;
 import com.example.tour_backend.exception.GlobalExceptionHandler.InvalidTourDataException;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TourService {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int STREAM_CHUNK_SIZE = 100;
+
     private final TourRepository tourRepository;
     private final UserRepository userRepository;
+    private final TourReminderService tourReminderService;
+    private final TourScheduleDayService tourScheduleDayService;
+    private final TourScheduleDayRepository tourScheduleDayRepository;
+    private final PlaceService placeService;
+    private final EntityManager entityManager;
 
     /**
      * 새로운 여행 계획 생성
@@ -62,10 +91,12 @@ public class TourService {
                 .endDate(dto.getEndDate())
                 .travelers(TourDefaults.validateTravelers(dto.getTravelers()))
                 .budget(dto.getBudget())
-                .planData(JsonUtil.toJson(planData))
+                .planData(placeService.toCompactJson(planData))
                 .build();
 
         tourRepository.save(tour);
+        tourScheduleDayService.refresh(tour, planData);
+        tourReminderService.planReminders(tour, planData);
         log.info("새로운 여행 계획 생성: tourId={}, title={}", tour.getTourId(), tour.getTitle());
 
         return convertToDto(tour);
@@ -106,11 +137,15 @@ public class TourService {
 
         // 계획 데이터 업데이트
         if (dto.getPlanData() != null) {
+            ValidationUtil.validateSchedules(dto.getPlanData(), tour.getStartDate(), tour.getEndDate());
             TourDefaults.updateMetadata(dto.getPlanData(), tour.getStartDate(), tour.getEndDate());
-            tour.setPlanData(JsonUtil.toJson(dto.getPlanData()));
+            tour.setPlanData(placeService.toCompactJson(dto.getPlanData()));
         }
 
         tourRepository.save(tour);
+        TravelPlanDto savedPlan = dto.getPlanData() != null ? dto.getPlanData() : JsonUtil.fromJsonSafe(tour.getPlanData());
+        tourScheduleDayService.refresh(tour, savedPlan);
+        tourReminderService.planReminders(tour, savedPlan);
         log.info("여행 계획 업데이트: tourId={}, title={}", tour.getTourId(), tour.getTitle());
 
         return convertToDto(tour);
@@ -120,18 +155,140 @@ public class TourService {
      * 사용자별 여행 계획 목록 조회
      */
     public List<TourDto> getToursByUser(Long userId) {
-        return tourRepository.findByUserUserIdOrderByCreateDateDesc(userId).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return convertToDtos(tourRepository.findByUserUserIdOrderByCreateDateDesc(userId));
+    }
+
+    /**
+     * 사용자의 월간 캘린더 (날짜별 여행 수/여행 ID/일정 수)
+     * - 여행은 기간 프로젝션으로, 일정 수는 tour_schedule_day에서 조회 (planData 파싱 없음)
+     */
+    @Transactional(readOnly = true)
+    public TourCalendarDto getMonthlyCalendar(Long userId, String month) {
+        YearMonth yearMonth;
+        try {
+            yearMonth = YearMonth.parse(month);
+        } catch (DateTimeParseException e) {
+            throw new InvalidTourDataException("월 형식이 올바르지 않습니다. (yyyy-MM): " + month);
+        }
+        LocalDate from = yearMonth.atDay(1);
+        LocalDate to = yearMonth.atEndOfMonth();
+
+        List<TourPeriodView> tours = tourRepository.findPeriodsOverlapping(userId, from, to);
+        Map<LocalDate, TourCalendarDto.Day> days = new TreeMap<>();
+
+        for (TourPeriodView tour : tours) {
+            LocalDate day = tour.getStartDate().isBefore(from) ? from : tour.getStartDate();
+            LocalDate last = tour.getEndDate().isAfter(to) ? to : tour.getEndDate();
+            for (; !day.isAfter(last); day = day.plusDays(1)) {
+                TourCalendarDto.Day entry = days.computeIfAbsent(day, this::emptyCalendarDay);
+                entry.getTourIds().add(tour.getTourId());
+                entry.setTourCount(entry.getTourCount() + 1);
+            }
+        }
+
+        if (!tours.isEmpty()) {
+            List<Long> tourIds = tours.stream().map(TourPeriodView::getTourId).collect(Collectors.toList());
+            for (TourScheduleDay scheduleDay : tourScheduleDayRepository.findByTourIdsBetween(tourIds, from, to)) {
+                TourCalendarDto.Day entry = days.computeIfAbsent(scheduleDay.getScheduleDate(), this::emptyCalendarDay);
+                entry.setScheduleCount(entry.getScheduleCount() + scheduleDay.getScheduleCount());
+            }
+        }
+
+        return TourCalendarDto.builder()
+                .month(yearMonth.toString())
+                .tours(tours.stream()
+                        .map(t -> TourCalendarDto.TourSummary.builder()
+                                .tourId(t.getTourId())
+                                .title(t.getTitle())
+                                .startDate(t.getStartDate())
+                                .endDate(t.getEndDate())
+                                .build())
+                        .collect(Collectors.toList()))
+                .days(new ArrayList<>(days.values()))
+                .build();
+    }
+
+    private TourCalendarDto.Day emptyCalendarDay(LocalDate date) {
+        return TourCalendarDto.Day.builder()
+                .date(date)
+                .tourIds(new ArrayList<>())
+                .build();
     }
 
     /**
      * 모든 여행 계획 조회 (관리자용)
      */
     public List<TourDto> getAllTours() {
-        return tourRepository.findAll().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return convertToDtos(tourRepository.findAll());
+    }
+
+    /**
+     * 모든 여행 계획 스트리밍 (관리자용, JsonArrayStreamer용)
+     * - tourId 키셋으로 100건씩 읽어 장소를 일괄 조회해 변환·전송하고 영속성 컨텍스트를 비움
+     */
+    @Transactional(readOnly = true)
+    public void streamAllTours(Consumer<TourDto> sink) {
+        StreamUtil.forEachPage((lastId, size) -> tourRepository.findPageAfter(lastId, PageRequest.of(0, size)),
+                Tour::getTourId, STREAM_CHUNK_SIZE, chunk -> {
+                    convertToDtos(chunk).forEach(sink);
+                    entityManager.clear();
+                });
+    }
+
+    /**
+     * 조건별 여행 계획 필터 조회 (기간 겹침, 예산, 인원, 여행 일수) - 페이징
+     */
+    @Transactional(readOnly = true)
+    public Page<TourDto> filterTours(TourFilterDto filter, int page, int size) {
+        validateFilter(filter);
+
+        Specification<Tour> spec = Specification.allOf(
+                TourSpecifications.overlaps(filter.getStartDate(), filter.getEndDate()),
+                TourSpecifications.hasBudget(parseBudget(filter.getBudget())),
+                TourSpecifications.travelersBetween(filter.getMinTravelers(), filter.getMaxTravelers()),
+                TourSpecifications.totalDaysBetween(filter.getMinDays(), filter.getMaxDays()));
+
+        Pageable pageable = PageRequest.of(
+                Math.max(page, 0),
+                Math.min(Math.max(size, 1), MAX_PAGE_SIZE),
+                Sort.by(Sort.Direction.ASC, "startDate").and(Sort.by(Sort.Direction.ASC, "tourId")));
+
+        Page<Tour> tours = tourRepository.findAll(spec, pageable);
+        return new PageImpl<>(convertToDtos(tours.getContent()), tours.getPageable(), tours.getTotalElements());
+    }
+
+    private void validateFilter(TourFilterDto filter) {
+        List<String> errors = new ArrayList<>();
+        if (filter.getStartDate() != null && filter.getEndDate() != null
+                && filter.getEndDate().isBefore(filter.getStartDate())) {
+            errors.add("종료일은 시작일과 같거나 이후 날짜여야 합니다.");
+        }
+        if (filter.getMinTravelers() != null && filter.getMaxTravelers() != null
+                && filter.getMinTravelers() > filter.getMaxTravelers()) {
+            errors.add("최소 여행자 수는 최대 여행자 수보다 클 수 없습니다.");
+        }
+        if (filter.getMinDays() != null && filter.getMaxDays() != null
+                && filter.getMinDays() > filter.getMaxDays()) {
+            errors.add("최소 여행 일수는 최대 여행 일수보다 클 수 없습니다.");
+        }
+        if (!errors.isEmpty()) {
+            throw new InvalidTourDataException(String.join(", ", errors));
+        }
+    }
+
+    /**
+     * 예산 필터 값 변환 - BudgetType.fromValue와 달리 잘못된 값은 기본값 대신 오류 처리
+     */
+    private BudgetType parseBudget(String budget) {
+        if (budget == null || budget.isBlank()) {
+            return null;
+        }
+        for (BudgetType type : BudgetType.values()) {
+            if (type.getValue().equalsIgnoreCase(budget) || type.name().equalsIgnoreCase(budget)) {
+                return type;
+            }
+        }
+        throw new InvalidTourDataException("알 수 없는 예산 유형입니다: " + budget);
     }
 
     /**
@@ -142,6 +299,8 @@ public class TourService {
         Tour tour = tourRepository.findById(tourId)
                 .orElseThrow(() -> new TourNotFoundException(tourId));
         
+        tourReminderService.deleteReminders(tourId);
+        tourScheduleDayService.delete(tourId);
         tourRepository.delete(tour);
         log.info("여행 계획 삭제: tourId={}, title={}", tour.getTourId(), tour.getTitle());
     }
@@ -150,6 +309,23 @@ public class TourService {
      * Entity -> DTO 변환
      */
     private TourDto convertToDto(Tour tour) {
+        TourDto dto = toDtoWithoutPlaces(tour);
+        placeService.resolve(dto.getPlanData());
+        return dto;
+    }
+
+    /**
+     * 목록 변환 - 모든 계획의 장소 상세를 한 번에 조회
+     */
+    private List<TourDto> convertToDtos(List<Tour> tours) {
+        List<TourDto> dtos = tours.stream()
+                .map(this::toDtoWithoutPlaces)
+                .collect(Collectors.toList());
+        placeService.resolve(dtos.stream().map(TourDto::getPlanData).collect(Collectors.toList()));
+        return dtos;
+    }
+
+    private TourDto toDtoWithoutPlaces(Tour tour) {
         TravelPlanDto planData = JsonUtil.fromJson(tour.getPlanData());
         
         return TourDto.builder()
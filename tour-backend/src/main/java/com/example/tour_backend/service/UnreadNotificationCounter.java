@@ -0,0 +1,108 @@
+package com.example.tour_backend.service;
+
+import com.example.tour_backend.domain.notification.NotificationRepository;
+import com.example.tour_backend.event.NotificationsCreatedEvent;
+import com.example.tour_backend.event.UnreadCountChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 회원별 안 읽은 알림 수 캐시 (헤더 배지용)
+ * - 처음 조회 시 COUNT(*)로 채우고(idx_notification_user_read), 이후에는 메모리 값을 반환
+ * - 읽음 처리/삭제는 커밋 후 증감으로 반영, 새 알림은 건너뛴 건이 있을 수 있어 항목을 비워 다시 셈
+ * - 무효화/증감마다 회원별 세대값을 올리고, COUNT 도중 세대가 바뀌었으면 결과를 캐시하지 않음
+ *   (COUNT와 저장 사이에 커밋·무효화된 알림이 빠진 값이 TTL 동안 남지 않도록) - 세대값은 회원 ID를 STRIPES개로 나눠 공유
+ * - ttl-ms가 지난 항목은 다시 셈 (카운터를 거치지 않는 삭제·다중 서버 오차 복구), 항목 수는 max-entries로 제한
+ * - 지표: notification.unread.cached (캐시된 회원 수)
+ */
+@Slf4j
+@Service
+public class UnreadNotificationCounter {
+    private static final int STRIPES = 1024; // 2의 거듭제곱
+
+    private final NotificationRepository notificationRepository;
+    private final Map<Long, Entry> counts = new ConcurrentHashMap<>();
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+
+    @Value("${notification.unread.ttl-ms:600000}")
+    private long ttlMs;
+
+    @Value("${notification.unread.max-entries:100000}")
+    private int maxEntries;
+
+    public UnreadNotificationCounter(NotificationRepository notificationRepository, MeterRegistry meterRegistry) {
+        this.notificationRepository = notificationRepository;
+        Gauge.builder("notification.unread.cached", counts, Map::size)
+                .description("안 읽은 알림 수가 캐시된 회원 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 안 읽은 알림 수
+     */
+    public long get(Long userId) {
+        long now = System.currentTimeMillis();
+        Entry entry = counts.get(userId);
+        if (entry != null && now - entry.loadedAt < ttlMs) {
+            return entry.count;
+        }
+        if (counts.size() >= maxEntries) {
+            counts.clear(); // 상한 도달 → 전부 비우고 다시 채움
+        }
+        long generation = generations.get(stripe(userId));
+        long count = notificationRepository.countUnreadByUserId(userId);
+        // 무효화와 같은 bin 잠금 안에서 세대 확인 → 그사이 무효화됐으면 기존 상태 유지 (다음 조회 때 다시 셈)
+        counts.compute(userId, (id, current) ->
+                generations.get(stripe(userId)) == generation ? new Entry(count, now) : current);
+        return count;
+    }
+
+    /**
+     * 새 알림 → 해당 회원 항목을 비워 다음 조회 때 다시 셈
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationsCreated(NotificationsCreatedEvent event) {
+        event.getUserIds().forEach(this::invalidate);
+    }
+
+    /**
+     * 읽음 처리/삭제 → 캐시된 값에만 증감 반영 (0 미만으로 내려가지 않음), 일괄 작업은 항목을 비움
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUnreadCountChanged(UnreadCountChangedEvent event) {
+        event.getResetUserIds().forEach(this::invalidate);
+        event.getDeltas().forEach((userId, delta) -> {
+            generations.incrementAndGet(stripe(userId)); // 진행 중인 COUNT는 변경 전 값일 수 있음
+            counts.computeIfPresent(userId, (id, entry) ->
+                    new Entry(Math.max(entry.count + delta, 0), entry.loadedAt));
+        });
+    }
+
+    // 세대를 먼저 올린 뒤 제거 → 제거 이후에 끝난 COUNT도 저장되지 않음
+    private void invalidate(Long userId) {
+        generations.incrementAndGet(stripe(userId));
+        counts.remove(userId);
+    }
+
+    private int stripe(Long userId) {
+        return Long.hashCode(userId) & (STRIPES - 1);
+    }
+
+    private static class Entry {
+        private final long count;
+        private final long loadedAt;
+
+        private Entry(long count, long loadedAt) {
+            this.count = count;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
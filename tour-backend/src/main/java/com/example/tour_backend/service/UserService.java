@@ -8,6 +8,8 @@ import com.example.tour_backend.domain.user.User;
 import com.example.tour_backend.domain.user.UserRepository;
 import com.example.tour_backend.dto.thread.ThreadDto;
 import com.example.tour_backend.dto.user.*;
+import com.example.tour_backend.util.StreamUtil;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -16,15 +18,20 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
+    private static final int STREAM_CHUNK_SIZE = 100;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;      // 비밀번호 암호화 검증용
     private final JwtTokenProvider jwtTokenProvider;    // JWT 토큰 생성용 클래스 (직접 구현 필요)
     private final ThreadLikeRepository threadLikeRepository;
+    private final EntityManager entityManager;
 
     /**
      * 로그인 처리
@@ -84,17 +91,7 @@ public class UserService {
         userRepository.save(user);
 
         // 응답 DTO 생성 및 반환
-        UserResponseDto dto = new UserResponseDto();
-        dto.setUserId(user.getUserId());
-        dto.setUsername(user.getUsername());
-        dto.setName(user.getName());
-        dto.setEmail(user.getEmail());
-        dto.setPhone(user.getPhone());
-        dto.setNickname(user.getNickname());
-        dto.setCreateDate(user.getCreateDate());
-        dto.setModifiedDate(user.getModifiedDate());
-        dto.setRole(user.getRole()); // ✅ role 추가
-        return dto;
+        return toResponseDto(user);
     }
 
     /**
@@ -112,17 +109,7 @@ public class UserService {
 
         userRepository.save(user);
 
-        UserResponseDto dto = new UserResponseDto();
-        dto.setUserId(user.getUserId());
-        dto.setUsername(user.getUsername());
-        dto.setName(user.getName());
-        dto.setEmail(user.getEmail());
-        dto.setPhone(user.getPhone());
-        dto.setNickname(user.getNickname());
-        dto.setCreateDate(user.getCreateDate());
-        dto.setModifiedDate(user.getModifiedDate());
-        dto.setRole(user.getRole()); // ✅ role 추가
-        return dto;
+        return toResponseDto(user);
     }
 
     /**
@@ -150,22 +137,40 @@ public class UserService {
      */
     public List<UserResponseDto> getAllUsers() {
         return userRepository.findAll().stream()
-                .map(user -> {
-                    UserResponseDto dto = new UserResponseDto();
-                    dto.setUserId(user.getUserId());
-                    dto.setUsername(user.getUsername());
-                    dto.setName(user.getName());
-                    dto.setEmail(user.getEmail());
-                    dto.setPhone(user.getPhone());
-                    dto.setNickname(user.getNickname());
-                    dto.setCreateDate(user.getCreateDate());
-                    dto.setModifiedDate(user.getModifiedDate());
-                    dto.setRole(user.getRole()); // ✅ role 추가
-                    return dto;
-                })
+                .map(this::toResponseDto)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 모든 회원 스트리밍 (JsonArrayStreamer용)
+     * - DB 커서로 읽으며 100건마다 영속성 컨텍스트를 비워 메모리를 일정하게 유지
+     */
+    @Transactional(readOnly = true)
+    public void streamAllUsers(Consumer<UserResponseDto> sink) {
+        try (Stream<User> users = userRepository.streamAll()) {
+            StreamUtil.forEachChunk(users, STREAM_CHUNK_SIZE, chunk -> {
+                chunk.forEach(user -> sink.accept(toResponseDto(user)));
+                entityManager.clear();
+            });
+        }
+    }
+
+    private UserResponseDto toResponseDto(User user) {
+        UserResponseDto dto = new UserResponseDto();
+        dto.setUserId(user.getUserId());
+        dto.setUsername(user.getUsername());
+        dto.setName(user.getName());
+        dto.setEmail(user.getEmail());
+        dto.setPhone(user.getPhone());
+        dto.setNickname(user.getNickname());
+        dto.setCreateDate(user.getCreateDate());
+        dto.setModifiedDate(user.getModifiedDate());
+        dto.setRole(user.getRole()); // ✅ role 추가
+        dto.setThreadCount(user.getThreadCount());
+        dto.setCommentCount(user.getCommentCount());
+        return dto;
+    }
+
     /**
      * username으로 userId 조회
      */
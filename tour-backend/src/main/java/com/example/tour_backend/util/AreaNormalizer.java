@@ -0,0 +1,40 @@
+package com.example.tour_backend.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 게시글 지역(자유 입력)을 비교용 키로 정규화
+ * - 공백 제거, 소문자, 유니코드 NFC
+ * - 행정구역 접미사 제거: "서울특별시" / "서울시" / "서울" → "서울", "제주특별자치도" / "제주도" → "제주"
+ */
+public final class AreaNormalizer {
+
+    // 긴 접미사부터 검사
+    private static final String[] SUFFIXES = {"특별자치시", "특별자치도", "특별시", "광역시", "시", "도", "군"};
+    private static final int MIN_KEY_LENGTH = 2;
+
+    private AreaNormalizer() {
+    }
+
+    /**
+     * @return 정규화 키, 비어 있으면 null
+     */
+    public static String normalize(String area) {
+        if (area == null) {
+            return null;
+        }
+        String compact = Normalizer.normalize(area, Normalizer.Form.NFC)
+                .replaceAll("\\s+", "")
+                .toLowerCase(Locale.ROOT);
+        if (compact.isEmpty()) {
+            return null;
+        }
+        for (String suffix : SUFFIXES) {
+            if (compact.endsWith(suffix) && compact.length() - suffix.length() >= MIN_KEY_LENGTH) {
+                return compact.substring(0, compact.length() - suffix.length());
+            }
+        }
+        return compact;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.tour_backend.util;
+
+/**
+ * 댓글 경로 (materialized path)
+ * - 루트부터 자기 자신까지 commentId를 36진수 8자리로 이어 붙인 문자열
+ *   예) 댓글 3에 단 답글 20 → "00000003" + "0000000k"
+ * - 자리수가 고정이라 문자열 순서 = 트리 전위 순회(부모 → 작성 순 자식) 순서
+ * - 하위 트리 = [path, path + "~") 범위 → (thread_id, path) 인덱스 범위 조회 한 번
+ */
+public class CommentPath {
+
+    public static final int SEGMENT_WIDTH = 8;
+    public static final int MAX_LENGTH = 800;
+    public static final int MAX_DEPTH = MAX_LENGTH / SEGMENT_WIDTH - 1; // 루트 = 0
+    public static final long MAX_ID = 2_821_109_907_455L; // 36^8 - 1 = "zzzzzzzz"
+
+    // 0-9, a-z보다 큰 ASCII 문자 (하위 트리 범위의 끝)
+    private static final String RANGE_END = "~";
+
+    public static String child(String parentPath, long commentId) {
+        if (commentId < 0 || commentId > MAX_ID) {
+            throw new IllegalArgumentException("댓글 ID가 경로 범위를 넘었습니다: " + commentId);
+        }
+        String segment = Long.toString(commentId, 36);
+        StringBuilder sb = new StringBuilder(parentPath != null ? parentPath : "");
+        sb.append("0".repeat(SEGMENT_WIDTH - segment.length())).append(segment);
+        return sb.toString();
+    }
+
+    public static int depth(String path) {
+        return path.length() / SEGMENT_WIDTH - 1;
+    }
+
+    /**
+     * 하위 트리 범위의 끝 (미포함)
+     */
+    public static String rangeEnd(String path) {
+        return path + RANGE_END;
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.tour_backend.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠 (Hierarchical Timing Wheel)
+ * - 레벨 0: tickMillis 단위 슬롯, 상위 레벨의 tick = 하위 레벨 전체 구간
+ * - 추가/만료 모두 O(1), 상위 레벨 슬롯이 도래하면 항목을 하위 레벨로 내려보냄
+ * - 예) new HierarchicalTimingWheel<>(60_000, now, 60, 24, 8) → 1분 x 60, 1시간 x 24, 1일 x 8 (최소 7일 보장)
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final Level<T>[] levels;
+    private final long tickMillis;
+    private long currentTime; // tickMillis 단위로 정렬된 현재 시각
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, long startMillis, int... wheelSizes) {
+        if (tickMillis <= 0 || wheelSizes.length == 0) {
+            throw new IllegalArgumentException("tickMillis와 레벨 크기는 필수입니다.");
+        }
+        this.tickMillis = tickMillis;
+        this.currentTime = startMillis - Math.floorMod(startMillis, tickMillis);
+        this.levels = new Level[wheelSizes.length];
+        long tick = tickMillis;
+        for (int i = 0; i < wheelSizes.length; i++) {
+            levels[i] = new Level<>(tick, wheelSizes[i]);
+            tick *= wheelSizes[i];
+        }
+    }
+
+    /**
+     * 현재 시각 기준으로 항상 담을 수 있는 구간 (최상위 슬롯 정렬 때문에 한 칸 여유를 둠)
+     */
+    public long spanMillis() {
+        Level<T> top = levels[levels.length - 1];
+        return top.tick * (top.buckets.length - 1);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized long currentTime() {
+        return currentTime;
+    }
+
+    /**
+     * 항목 추가
+     * @return false면 이미 만료된 시각 (호출자가 즉시 처리해야 함)
+     */
+    public synchronized boolean add(long expirationMillis, T item) {
+        if (expirationMillis < currentTime + tickMillis) {
+            return false;
+        }
+        place(new Entry<>(expirationMillis, item));
+        size++;
+        return true;
+    }
+
+    /**
+     * 현재 시각을 now까지 진행하며 만료된 항목을 onExpire로 전달
+     */
+    public synchronized void advance(long nowMillis, Consumer<T> onExpire) {
+        while (currentTime + tickMillis <= nowMillis) {
+            currentTime += tickMillis;
+            // 상위 레벨부터 도래한 슬롯을 비워 하위 레벨로 재배치
+            for (int i = levels.length - 1; i >= 0; i--) {
+                Level<T> level = levels[i];
+                if (currentTime % level.tick != 0) {
+                    continue;
+                }
+                int index = (int) Math.floorMod(currentTime / level.tick, (long) level.buckets.length);
+                List<Entry<T>> bucket = level.buckets[index];
+                if (bucket.isEmpty()) {
+                    continue;
+                }
+                level.buckets[index] = new ArrayList<>();
+                for (Entry<T> entry : bucket) {
+                    if (entry.expiration < currentTime + tickMillis) {
+                        size--;
+                        onExpire.accept(entry.item);
+                    } else {
+                        place(entry);
+                    }
+                }
+            }
+        }
+    }
+
+    private void place(Entry<T> entry) {
+        for (Level<T> level : levels) {
+            long levelTime = currentTime - Math.floorMod(currentTime, level.tick);
+            if (entry.expiration < levelTime + level.tick * level.buckets.length) {
+                int index = (int) Math.floorMod(entry.expiration / level.tick, (long) level.buckets.length);
+                level.buckets[index].add(entry);
+                return;
+            }
+        }
+        throw new IllegalArgumentException("타이밍 휠 구간을 벗어난 시각입니다: " + entry.expiration);
+    }
+
+    private static final class Entry<T> {
+        private final long expiration;
+        private final T item;
+
+        private Entry(long expiration, T item) {
+            this.expiration = expiration;
+            this.item = item;
+        }
+    }
+
+    private static final class Level<T> {
+        private final long tick;
+        private final List<Entry<T>>[] buckets;
+
+        @SuppressWarnings("unchecked")
+        private Level(long tick, int wheelSize) {
+            this.tick = tick;
+            this.buckets = new List[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new ArrayList<>();
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.tour_backend.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * 대용량 목록 JSON 스트리밍 응답
+ * - 목록 전체를 List로 모으지 않고, 항목을 하나씩 JsonGenerator로 바로 씀 → 응답 크기와 무관하게 메모리 일정
+ * - 첫 항목 직후 flush해 응답 시작을 앞당김 (이후는 출력 버퍼 단위로 전송)
+ *   → 항목 writer는 FLUSH_AFTER_WRITE_VALUE를 끔 (켜져 있으면 항목마다 flush되어 청크가 항목 수만큼 생김)
+ * - 직렬화 설정(날짜 형식 등)은 Spring ObjectMapper를 그대로 사용해 기존 응답과 같은 JSON을 만듦
+ * - 응답이 시작된 뒤의 오류는 상태 코드를 바꿀 수 없으므로 로그만 남기고 연결을 끊음 (클라이언트는 잘린 JSON을 받음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JsonArrayStreamer {
+
+    private final ObjectMapper objectMapper;
+    private ObjectWriter itemWriter;
+
+    @PostConstruct
+    public void init() {
+        itemWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * JSON 배열 응답 - [item, item, ...]
+     * @param producer 항목을 sink에 하나씩 넘기는 함수 (읽기 전용 트랜잭션 안에서 실행되는 서비스 메서드)
+     */
+    public <T> ResponseEntity<StreamingResponseBody> array(Consumer<Consumer<T>> producer) {
+        return ok(out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.writeStartArray();
+                writeItems(generator, producer);
+                generator.writeEndArray();
+            }
+        });
+    }
+
+    /**
+     * ApiResponse 형식 응답 - {success, message, data: [...], timestamp}
+     */
+    public <T> ResponseEntity<StreamingResponseBody> success(Consumer<Consumer<T>> producer, String message) {
+        return ok(out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.writeStartObject();
+                generator.writeBooleanField("success", true);
+                generator.writeStringField("message", message);
+                generator.writeArrayFieldStart("data");
+                writeItems(generator, producer);
+                generator.writeEndArray();
+                generator.writeFieldName("timestamp");
+                itemWriter.writeValue(generator, LocalDateTime.now());
+                generator.writeEndObject();
+            }
+        });
+    }
+
+    private <T> void writeItems(JsonGenerator generator, Consumer<Consumer<T>> producer) throws IOException {
+        long[] written = {0};
+        try {
+            producer.accept(item -> {
+                try {
+                    itemWriter.writeValue(generator, item);
+                    if (++written[0] == 1) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            log.warn("JSON 스트리밍 중단: {}건 전송 후 {}", written[0], e.getMessage());
+            throw e.getCause();
+        }
+    }
+
+    private ResponseEntity<StreamingResponseBody> ok(StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+}
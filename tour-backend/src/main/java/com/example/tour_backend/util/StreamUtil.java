@@ -0,0 +1,54 @@
+package com.example.tour_backend.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Stream 처리 유틸리티
+ */
+public class StreamUtil {
+
+    /**
+     * 스트림을 size개씩 묶어 처리 (마지막 묶음은 size보다 작을 수 있음)
+     * - DB 커서 스트림을 일정 개수씩 변환하고 영속성 컨텍스트를 비우는 용도
+     */
+    public static <T> void forEachChunk(Stream<T> stream, int size, Consumer<List<T>> action) {
+        List<T> chunk = new ArrayList<>(size);
+        stream.forEachOrdered(item -> {
+            chunk.add(item);
+            if (chunk.size() == size) {
+                action.accept(chunk);
+                chunk.clear();
+            }
+        });
+        if (!chunk.isEmpty()) {
+            action.accept(chunk);
+        }
+    }
+
+    /**
+     * ID 키셋 페이지를 차례로 처리 (마지막 ID 다음부터 size개씩, 덜 찬 페이지에서 끝)
+     * - 묶음마다 다른 쿼리(자식 일괄 조회 등)가 필요한 경우 forEachChunk 대신 사용
+     *   (MariaDB 드라이버는 커서가 열린 연결에서 다른 쿼리를 실행하면 남은 결과를 모두 메모리로 읽음)
+     * @param fetch (lastId, size) → lastId보다 큰 ID를 오름차순으로 최대 size개
+     */
+    public static <T> void forEachPage(BiFunction<Long, Integer, List<T>> fetch, Function<T, Long> idOf,
+                                       int size, Consumer<List<T>> action) {
+        long lastId = 0;
+        while (true) {
+            List<T> page = fetch.apply(lastId, size);
+            if (page.isEmpty()) {
+                return;
+            }
+            lastId = idOf.apply(page.get(page.size() - 1));
+            action.accept(page);
+            if (page.size() < size) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.tour_backend.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 시간 감쇠 인기 순위 (지역별 상위 K개 유지)
+ * - 점수 = Σ 가중치 × 2^(-(now - 발생시각) / 반감기)
+ * - 기준 시각(epoch) 대비 2^((발생시각 - epoch) / 반감기)를 곱해 저장하므로 (forward decay)
+ *   모든 항목이 같은 비율로 감쇠 → 갱신 시 다른 항목을 다시 계산할 필요가 없음
+ * - 지역별(전체 포함) 상위 K개를 정렬 집합으로 유지하고, 점수가 줄어드는 경우의 오차는 maintain()에서 재구성
+ * - 좋아요 취소는 좋아요로 더해진 점수(like 몫)에서 평균 1건만큼만 뺌
+ *   → 좋아요 시점의 감쇠가 그대로 적용되어 좋아요 후 취소는 0, 조회/댓글 점수에는 영향 없음
+ */
+public class TrendingRanker {
+
+    /**
+     * 전체 지역 순위 키
+     */
+    public static final String ALL = "*";
+
+    // 지수가 이 값을 넘으면 기준 시각을 옮겨 double 범위를 벗어나지 않게 함
+    private static final double RENORMALIZE_EXPONENT = 32;
+
+    private final long halfLifeMillis;
+    private final int topK;
+    private final double minScore;
+
+    private long epochMillis;
+    private final Map<Long, Item> items = new HashMap<>();
+    private final Map<String, TreeSet<Item>> tops = new HashMap<>();
+
+    private static final Comparator<Item> ORDER = Comparator
+            .comparingDouble((Item item) -> item.score)
+            .thenComparingLong(item -> item.threadId);
+
+    /**
+     * @param minScore 현재 점수가 이보다 작아진 항목은 maintain()에서 제거
+     */
+    public TrendingRanker(long halfLifeMillis, int topK, double minScore, long nowMillis) {
+        this.halfLifeMillis = halfLifeMillis;
+        this.topK = topK;
+        this.minScore = minScore;
+        this.epochMillis = nowMillis;
+    }
+
+    /**
+     * 활동 반영 (조회/댓글, 저장본 복원)
+     */
+    public synchronized void record(long threadId, String area, double weight, long atMillis) {
+        Item item = update(threadId, area);
+        item.score = Math.max(0, item.score + weight * growth(atMillis));
+        reattach(item);
+    }
+
+    /**
+     * 좋아요 반영 (취소할 때 뺄 수 있도록 like 몫을 따로 누적)
+     */
+    public synchronized void recordLike(long threadId, String area, double weight, long atMillis) {
+        Item item = update(threadId, area);
+        double added = weight * growth(atMillis);
+        item.score += added;
+        item.likeScore += added;
+        item.likes++;
+        reattach(item);
+    }
+
+    /**
+     * 좋아요 취소 - 누적된 like 몫의 평균 1건만큼 뺌 (순위에 없거나 이 프로세스에서 센 좋아요가 없으면 무시)
+     */
+    public synchronized void removeLike(long threadId) {
+        Item item = items.get(threadId);
+        if (item == null || item.likes == 0) {
+            return;
+        }
+        detach(item);
+        double removed = item.likeScore / item.likes;
+        item.likeScore -= removed;
+        item.likes--;
+        item.score = Math.max(0, item.score - removed);
+        reattach(item);
+    }
+
+    public synchronized void remove(long threadId) {
+        Item item = items.remove(threadId);
+        if (item != null) {
+            detach(item);
+        }
+    }
+
+    /**
+     * 지역 상위 목록 (area가 null이면 전체)
+     * @return [threadId, 현재 점수] 점수 내림차순
+     */
+    public synchronized List<double[]> top(String area, int limit, long nowMillis) {
+        TreeSet<Item> top = tops.get(area != null ? area : ALL);
+        List<double[]> result = new ArrayList<>();
+        if (top == null) {
+            return result;
+        }
+        double decay = 1 / growth(nowMillis);
+        for (Iterator<Item> it = top.descendingIterator(); it.hasNext() && result.size() < limit; ) {
+            Item item = it.next();
+            result.add(new double[]{item.threadId, item.score * decay});
+        }
+        return result;
+    }
+
+    /**
+     * 주기 정리 - 낮은 점수 제거, 기준 시각 이동, 상위 목록 재구성
+     */
+    public synchronized void maintain(long nowMillis) {
+        double decay = 1 / growth(nowMillis);
+        items.values().removeIf(item -> item.score * decay < minScore);
+
+        if (Math.log(1 / decay) / Math.log(2) > RENORMALIZE_EXPONENT) {
+            for (Item item : items.values()) {
+                item.score *= decay;
+                item.likeScore *= decay;
+            }
+            epochMillis = nowMillis;
+        }
+
+        tops.clear();
+        for (Item item : items.values()) {
+            attach(item, ALL);
+            if (item.area != null) {
+                attach(item, item.area);
+            }
+        }
+    }
+
+    /**
+     * 현재 점수 스냅샷 (저장용) - 각 원소는 threadId, area, 현재 점수
+     */
+    public synchronized List<Object[]> snapshot(long nowMillis) {
+        double decay = 1 / growth(nowMillis);
+        List<Object[]> rows = new ArrayList<>(items.size());
+        for (Item item : items.values()) {
+            rows.add(new Object[]{item.threadId, item.area, item.score * decay});
+        }
+        return rows;
+    }
+
+    public synchronized int size() {
+        return items.size();
+    }
+
+    private double growth(long atMillis) {
+        return Math.pow(2, (double) (atMillis - epochMillis) / halfLifeMillis);
+    }
+
+    private Item update(long threadId, String area) {
+        Item item = items.get(threadId);
+        if (item == null) {
+            item = new Item(threadId, area);
+            items.put(threadId, item);
+        } else {
+            detach(item);
+            item.area = area;
+        }
+        return item;
+    }
+
+    private void reattach(Item item) {
+        attach(item, ALL);
+        if (item.area != null) {
+            attach(item, item.area);
+        }
+    }
+
+    private void attach(Item item, String key) {
+        TreeSet<Item> top = tops.computeIfAbsent(key, k -> new TreeSet<>(ORDER));
+        if (top.size() < topK) {
+            top.add(item);
+        } else if (ORDER.compare(item, top.first()) > 0) {
+            top.pollFirst();
+            top.add(item);
+        }
+    }
+
+    // 점수를 바꾸기 전에 정렬 집합에서 먼저 빼야 함
+    private void detach(Item item) {
+        TreeSet<Item> all = tops.get(ALL);
+        if (all != null) {
+            all.remove(item);
+        }
+        if (item.area != null) {
+            TreeSet<Item> top = tops.get(item.area);
+            if (top != null) {
+                top.remove(item);
+            }
+        }
+    }
+
+    private static final class Item {
+        private final long threadId;
+        private String area;
+        private double score; // epoch 기준으로 환산된 점수
+        private double likeScore; // score 중 좋아요로 더해진 몫
+        private int likes;
+
+        private Item(long threadId, String area) {
+            this.threadId = threadId;
+            this.area = area;
+        }
+    }
+}
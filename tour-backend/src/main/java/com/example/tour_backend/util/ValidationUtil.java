@@ -2,7 +2,10 @@ package com.example.tour_backend.util;
 
 import com.example.tour_backend.domain.tour.BudgetType;
 import com.example.tour_backend.dto.tour.TourDto;
+import com.example.tour_backend.dto.tour.plan.TravelPlanDto;
+import com.example.tour_backend.exception.GlobalExceptionHandler.InvalidScheduleDataException;
 import com.example.tour_backend.exception.GlobalExceptionHandler.InvalidTourDataException;
+import com.example.tour_backend.util.tour.ScheduleValidator;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDate;
@@ -61,6 +64,19 @@ public class ValidationUtil {
             log.warn("Tour validation failed: {}", message);
             throw new InvalidTourDataException(message);
         }
+
+        validateSchedules(dto.getPlanData(), dto.getStartDate(), dto.getEndDate());
+    }
+
+    /**
+     * 계획 데이터의 일정 항목 전체 검증 (항목별 오류 경로 포함)
+     */
+    public static void validateSchedules(TravelPlanDto planData, LocalDate startDate, LocalDate endDate) {
+        List<ScheduleValidator.Violation> violations = ScheduleValidator.validate(planData, startDate, endDate);
+        if (!violations.isEmpty()) {
+            log.warn("Schedule validation failed: {}", violations);
+            throw new InvalidScheduleDataException(violations);
+        }
     }
     
     /**
@@ -0,0 +1,65 @@
+package com.example.tour_backend.util.search;
+
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저
+ * - 한글/한자/가나 연속 구간: 2글자씩 겹쳐 자름 (바이그램, "제주도" → "제주", "주도"), 한 글자 구간은 그대로
+ * - 영문/숫자 연속 구간: 소문자로 바꾼 단어 하나 (부분 일치는 InvertedIndex의 접두어 확장으로 처리)
+ * - 공백/기호로 끊긴 곳은 위치를 한 칸 건너뛰어 구문(연속 위치) 매칭이 단어 경계를 넘지 않도록 함
+ */
+public final class BigramTokenizer {
+
+    /**
+     * 토큰 수신 (위치는 0부터 증가, 단어 경계마다 한 칸씩 비어 있음)
+     */
+    @FunctionalInterface
+    public interface TokenSink {
+        void accept(String term, int position);
+    }
+
+    private BigramTokenizer() {
+    }
+
+    public static void tokenize(String text, TokenSink sink) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        int length = text.length();
+        int position = 0;
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                i++;
+                continue;
+            }
+            boolean cjk = isCjk(c);
+            int start = i;
+            while (i < length && Character.isLetterOrDigit(text.charAt(i)) && isCjk(text.charAt(i)) == cjk) {
+                i++;
+            }
+
+            String run = text.substring(start, i).toLowerCase(Locale.ROOT);
+            if (!cjk || run.length() == 1) {
+                sink.accept(run, position++);
+            } else {
+                for (int k = 0; k + 1 < run.length(); k++) {
+                    sink.accept(run.substring(k, k + 2), position++);
+                }
+            }
+            // 구분자가 뒤따르면 위치를 비워 둠 (문자 종류만 바뀐 경우는 연속으로 취급)
+            if (i < length && !Character.isLetterOrDigit(text.charAt(i))) {
+                position++;
+            }
+        }
+    }
+
+    static boolean isCjk(char c) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(c);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
@@ -0,0 +1,272 @@
+package com.example.tour_backend.util.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 자동완성용 압축 트라이 (radix tree)
+ * - 키는 HangulJamo로 분해한 문자열, 간선 하나에 여러 글자를 담아 노드 수를 줄임
+ * - 노드마다 하위 트리의 최대 가중치를 유지해, 접두어 아래에서 가중치 높은 항목부터 탐색 (best-first)
+ * - 항목은 ID로 추가/교체/삭제/가중치 조정 가능 (증분 갱신)
+ */
+public class CompletionTrie {
+
+    /**
+     * 자동완성 항목
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private final String id;
+        private final String text;
+        private final String type;
+        private double weight;
+    }
+
+    /**
+     * 메모리 사용량 (객체 헤더/참조 크기를 가정한 추정치)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Stats {
+        private final int nodes;
+        private final int entries;
+        private final long labelChars;
+        private final long estimatedBytes;
+    }
+
+    private final Node root = new Node("", null);
+    private final Map<String, Entry> entriesById = new HashMap<>();
+    private final Map<String, Node> nodesById = new HashMap<>();
+    private int nodeCount = 1;
+
+    /**
+     * 항목 추가/교체
+     */
+    public synchronized void put(String id, String text, String type, double weight) {
+        removeLocked(id);
+        String key = HangulJamo.decompose(text);
+        if (key.isEmpty()) {
+            return;
+        }
+        Node node = insert(key);
+        Entry entry = new Entry(id, text, type, weight);
+        if (node.entries == null) {
+            node.entries = new HashMap<>(2);
+        }
+        node.entries.put(id, entry);
+        entriesById.put(id, entry);
+        nodesById.put(id, node);
+        refreshUpward(node);
+    }
+
+    public synchronized void remove(String id) {
+        removeLocked(id);
+    }
+
+    /**
+     * 가중치 증감 (항목이 없으면 무시)
+     */
+    public synchronized void adjustWeight(String id, double delta) {
+        Entry entry = entriesById.get(id);
+        if (entry != null) {
+            entry.weight = Math.max(0, entry.weight + delta);
+            refreshUpward(nodesById.get(id));
+        }
+    }
+
+    public synchronized boolean contains(String id) {
+        return entriesById.containsKey(id);
+    }
+
+    /**
+     * 접두어 자동완성 - 가중치 내림차순, 같은 종류/표기는 한 번만
+     */
+    public synchronized List<Entry> complete(String prefix, int limit) {
+        List<Entry> result = new ArrayList<>();
+        Node start = findPrefixNode(HangulJamo.decompose(prefix));
+        if (start == null || limit <= 0) {
+            return result;
+        }
+
+        // 노드(하위 최대 가중치)와 항목(자기 가중치)을 한 큐에서 꺼냄 → 항목이 나오는 순서가 곧 가중치 순서
+        PriorityQueue<Object[]> queue = new PriorityQueue<>((a, b) -> Double.compare((double) b[0], (double) a[0]));
+        queue.add(new Object[]{start.maxWeight, start});
+        Set<String> seen = new HashSet<>();
+        while (!queue.isEmpty() && result.size() < limit) {
+            Object item = queue.poll()[1];
+            if (item instanceof Entry entry) {
+                if (seen.add(entry.type + "\u0000" + entry.text)) {
+                    result.add(entry);
+                }
+                continue;
+            }
+            Node node = (Node) item;
+            if (node.entries != null) {
+                for (Entry entry : node.entries.values()) {
+                    queue.add(new Object[]{entry.weight, entry});
+                }
+            }
+            for (Node child : node.children.values()) {
+                queue.add(new Object[]{child.maxWeight, child});
+            }
+        }
+        return result;
+    }
+
+    public synchronized Stats stats() {
+        long[] labelChars = {0};
+        long[] childRefs = {0};
+        visit(root, node -> {
+            labelChars[0] += node.label.length();
+            childRefs[0] += node.children.size();
+        });
+        long textChars = 0;
+        for (Entry entry : entriesById.values()) {
+            textChars += entry.text.length() + entry.id.length();
+        }
+        int entries = entriesById.size();
+        // 노드: 객체 + 자식 맵 ≈ 120B, 자식 참조 ≈ 40B, 항목: 객체 + 색인 맵 2곳 ≈ 150B, 문자 2B
+        long estimated = nodeCount * 120L + childRefs[0] * 40L + entries * 150L
+                + (labelChars[0] + textChars) * 2L;
+        return new Stats(nodeCount, entries, labelChars[0], estimated);
+    }
+
+    // ===== 내부 구현 =====
+
+    private Node insert(String key) {
+        Node node = root;
+        int offset = 0;
+        while (offset < key.length()) {
+            Node child = node.children.get(key.charAt(offset));
+            if (child == null) {
+                Node leaf = new Node(key.substring(offset), node);
+                node.children.put(key.charAt(offset), leaf);
+                nodeCount++;
+                return leaf;
+            }
+            int common = commonPrefix(child.label, key, offset);
+            if (common == child.label.length()) {
+                node = child;
+                offset += common;
+                continue;
+            }
+            // 간선 분할: node ─(공통)→ middle ─(나머지)→ child
+            Node middle = new Node(child.label.substring(0, common), node);
+            node.children.put(middle.label.charAt(0), middle);
+            child.label = child.label.substring(common);
+            child.parent = middle;
+            middle.children.put(child.label.charAt(0), child);
+            middle.maxWeight = child.maxWeight;
+            nodeCount++;
+            node = middle;
+            offset += common;
+        }
+        return node;
+    }
+
+    // 접두어가 간선 중간에서 끝나면 그 간선 아래 노드가 시작점
+    private Node findPrefixNode(String prefix) {
+        Node node = root;
+        int offset = 0;
+        while (offset < prefix.length()) {
+            Node child = node.children.get(prefix.charAt(offset));
+            if (child == null) {
+                return null;
+            }
+            int common = commonPrefix(child.label, prefix, offset);
+            if (offset + common == prefix.length()) {
+                return child;
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+            node = child;
+            offset += common;
+        }
+        return node;
+    }
+
+    private void removeLocked(String id) {
+        Entry entry = entriesById.remove(id);
+        if (entry == null) {
+            return;
+        }
+        Node node = nodesById.remove(id);
+        node.entries.remove(id);
+        if (node.entries.isEmpty()) {
+            node.entries = null;
+        }
+
+        // 빈 잎 노드 제거, 자식 하나뿐인 빈 중간 노드는 병합
+        Node current = node;
+        while (current != root && current.entries == null && current.children.isEmpty()) {
+            Node parent = current.parent;
+            parent.children.remove(current.label.charAt(0));
+            nodeCount--;
+            current = parent;
+        }
+        if (current != root && current.entries == null && current.children.size() == 1) {
+            Node only = current.children.values().iterator().next();
+            only.label = current.label + only.label;
+            only.parent = current.parent;
+            current.parent.children.put(only.label.charAt(0), only);
+            nodeCount--;
+            current = only.parent;
+        }
+        refreshUpward(current);
+    }
+
+    private void refreshUpward(Node node) {
+        for (Node current = node; current != null; current = current.parent) {
+            double max = 0;
+            if (current.entries != null) {
+                for (Entry entry : current.entries.values()) {
+                    max = Math.max(max, entry.weight);
+                }
+            }
+            for (Node child : current.children.values()) {
+                max = Math.max(max, child.maxWeight);
+            }
+            current.maxWeight = max;
+        }
+    }
+
+    private int commonPrefix(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private void visit(Node node, Consumer<Node> visitor) {
+        visitor.accept(node);
+        for (Node child : node.children.values()) {
+            visit(child, visitor);
+        }
+    }
+
+    private static final class Node {
+        private String label;
+        private Node parent;
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private Map<String, Entry> entries; // 이 키로 끝나는 항목 (없으면 null)
+        private double maxWeight;
+
+        private Node(String label, Node parent) {
+            this.label = label;
+            this.parent = parent;
+        }
+    }
+}
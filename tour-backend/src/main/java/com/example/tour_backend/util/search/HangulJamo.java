@@ -0,0 +1,83 @@
+package com.example.tour_backend.util.search;
+
+import java.util.Locale;
+
+/**
+ * 한글 자모 분해 (자동완성용)
+ * - 완성형 음절을 초성/중성/종성 호환 자모로 풀고, 겹받침/이중모음도 낱자로 나눔
+ *   예) "닭" → ㄷㅏㄹㄱ, "과" → ㄱㅗㅏ
+ * - 입력 중인 글자("젲")도 완성된 글자("제주")의 접두어가 되도록 하기 위함
+ * - 공백은 제거하고 영문은 소문자로 바꿈
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String[] CHO = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private HangulJamo() {
+    }
+
+    public static String decompose(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int offset = c - SYLLABLE_BASE;
+                sb.append(CHO[offset / (JUNG_COUNT * JONG_COUNT)]);
+                sb.append(JUNG[(offset % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT]);
+                sb.append(JONG[offset % JONG_COUNT]);
+            } else {
+                sb.append(splitCompatibilityJamo(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    // 직접 입력된 겹자모(ㄺ, ㅘ 등)도 낱자로 나눔
+    private static String splitCompatibilityJamo(char c) {
+        switch (c) {
+            case 'ㄳ': return "ㄱㅅ";
+            case 'ㄵ': return "ㄴㅈ";
+            case 'ㄶ': return "ㄴㅎ";
+            case 'ㄺ': return "ㄹㄱ";
+            case 'ㄻ': return "ㄹㅁ";
+            case 'ㄼ': return "ㄹㅂ";
+            case 'ㄽ': return "ㄹㅅ";
+            case 'ㄾ': return "ㄹㅌ";
+            case 'ㄿ': return "ㄹㅍ";
+            case 'ㅀ': return "ㄹㅎ";
+            case 'ㅄ': return "ㅂㅅ";
+            case 'ㅘ': return "ㅗㅏ";
+            case 'ㅙ': return "ㅗㅐ";
+            case 'ㅚ': return "ㅗㅣ";
+            case 'ㅝ': return "ㅜㅓ";
+            case 'ㅞ': return "ㅜㅔ";
+            case 'ㅟ': return "ㅜㅣ";
+            case 'ㅢ': return "ㅡㅣ";
+            default: return String.valueOf(c);
+        }
+    }
+}
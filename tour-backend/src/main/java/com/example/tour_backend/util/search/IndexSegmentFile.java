@@ -0,0 +1,120 @@
+package com.example.tour_backend.util.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 역색인 디스크 세그먼트 (재시작 시 DB 재조회/재토큰화 없이 복원)
+ * - 형식: 헤더 → 용어 사전 → 문서별 (ID, 버전, 필드별 [용어 번호, 위치] 목록)
+ * - 임시 파일에 쓴 뒤 원자적으로 교체하므로 쓰는 도중 종료돼도 이전 세그먼트가 남음
+ */
+public final class IndexSegmentFile {
+
+    private static final int MAGIC = 0x54534958; // "TSIX"
+    private static final int FORMAT_VERSION = 1;
+
+    private IndexSegmentFile() {
+    }
+
+    /**
+     * @return 저장한 문서 수
+     */
+    public static int write(InvertedIndex index, Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        // 용어 사전 + 문서 목록은 읽기 잠금 한 번 안에서 복사 (쓰는 동안 색인 갱신을 막지 않음)
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> terms = new ArrayList<>();
+        List<Object[]> docs = new ArrayList<>();
+        index.forEachDoc((docId, version, fieldTerms, fieldPositions) -> {
+            for (String[] field : fieldTerms) {
+                for (String term : field) {
+                    if (dictionary.putIfAbsent(term, terms.size()) == null) {
+                        terms.add(term);
+                    }
+                }
+            }
+            docs.add(new Object[]{docId, version, fieldTerms, fieldPositions});
+        });
+
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(index.fieldCount());
+            out.writeInt(terms.size());
+            for (String term : terms) {
+                out.writeUTF(term);
+            }
+            out.writeInt(docs.size());
+            for (Object[] doc : docs) {
+                String[][] fieldTerms = (String[][]) doc[2];
+                int[][] fieldPositions = (int[][]) doc[3];
+                out.writeLong((Long) doc[0]);
+                out.writeLong((Long) doc[1]);
+                for (int f = 0; f < fieldTerms.length; f++) {
+                    out.writeInt(fieldTerms[f].length);
+                    for (int i = 0; i < fieldTerms[f].length; i++) {
+                        out.writeInt(dictionary.get(fieldTerms[f][i]));
+                        out.writeInt(fieldPositions[f][i]);
+                    }
+                }
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return docs.size();
+    }
+
+    /**
+     * 세그먼트를 읽어 색인에 추가
+     * @return 복원한 문서 수, 파일이 없으면 -1
+     */
+    public static int read(Path file, InvertedIndex index) throws IOException {
+        if (!Files.exists(file)) {
+            return -1;
+        }
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new IOException("지원하지 않는 세그먼트 형식입니다: " + file);
+            }
+            int fieldCount = in.readInt();
+            if (fieldCount != index.fieldCount()) {
+                throw new IOException("세그먼트 필드 수가 다릅니다: " + fieldCount);
+            }
+            String[] terms = new String[in.readInt()];
+            for (int i = 0; i < terms.length; i++) {
+                terms[i] = in.readUTF();
+            }
+            int docCount = in.readInt();
+            for (int d = 0; d < docCount; d++) {
+                long docId = in.readLong();
+                long version = in.readLong();
+                String[][] fieldTerms = new String[fieldCount][];
+                int[][] fieldPositions = new int[fieldCount][];
+                for (int f = 0; f < fieldCount; f++) {
+                    int length = in.readInt();
+                    fieldTerms[f] = new String[length];
+                    fieldPositions[f] = new int[length];
+                    for (int i = 0; i < length; i++) {
+                        fieldTerms[f][i] = terms[in.readInt()];
+                        fieldPositions[f][i] = in.readInt();
+                    }
+                }
+                index.putTokens(docId, version, fieldTerms, fieldPositions);
+            }
+            return docCount;
+        }
+    }
+}
@@ -0,0 +1,402 @@
+package com.example.tour_backend.util.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 역색인 (위치 정보 포함 포스팅 + BM25 점수)
+ * - 문서는 여러 필드(제목/본문 등)로 구성되고, 필드마다 가중치를 둠
+ * - 검색어는 공백 기준 단어로 나누고 모든 단어를 포함한 문서만 반환 (AND)
+ * - 여러 토큰으로 나뉘는 단어("제주도" → "제주","주도")는 같은 필드에서 연속 위치에 있어야 일치
+ * - 단어의 마지막 토큰이 한 글자이거나 영문/숫자면 그것으로 시작하는 용어로 확장 (접두어 검색, "seo" → "seoul")
+ * - 읽기/쓰기 잠금으로 검색과 증분 갱신을 동시에 처리
+ */
+public class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int MAX_EXPANSIONS = 256; // 접두어 하나가 확장되는 용어 수 상한
+
+    /**
+     * 검색 결과 (문서 ID + 점수)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Hit {
+        private final long docId;
+        private final double score;
+    }
+
+    /**
+     * 저장된 문서 방문 (디스크 저장용)
+     */
+    @FunctionalInterface
+    public interface DocVisitor {
+        void visit(long docId, long version, String[][] terms, int[][] positions);
+    }
+
+    private final float[] fieldWeights;
+    private final int fieldCount;
+
+    // 용어 → (문서 ID → 필드별 위치 배열, 필드에 없으면 null) / 접두어 검색을 위해 정렬 유지
+    private final NavigableMap<String, Map<Long, int[][]>> postings = new TreeMap<>();
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private final long[] totalLengths;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public InvertedIndex(float... fieldWeights) {
+        this.fieldWeights = fieldWeights.clone();
+        this.fieldCount = fieldWeights.length;
+        this.totalLengths = new long[fieldCount];
+    }
+
+    public int fieldCount() {
+        return fieldCount;
+    }
+
+    // ===== 갱신 =====
+
+    /**
+     * 문서 추가/교체 (필드 텍스트를 토큰화해 색인)
+     * @param version 변경 감지용 값 (예: 수정 시각)
+     */
+    public void put(long docId, long version, String... fieldTexts) {
+        if (fieldTexts.length != fieldCount) {
+            throw new IllegalArgumentException("필드 개수가 맞지 않습니다: " + fieldTexts.length);
+        }
+        String[][] terms = new String[fieldCount][];
+        int[][] positions = new int[fieldCount][];
+        for (int f = 0; f < fieldCount; f++) {
+            List<String> fieldTerms = new ArrayList<>();
+            List<Integer> fieldPositions = new ArrayList<>();
+            BigramTokenizer.tokenize(fieldTexts[f], (term, position) -> {
+                fieldTerms.add(term);
+                fieldPositions.add(position);
+            });
+            terms[f] = fieldTerms.toArray(new String[0]);
+            positions[f] = fieldPositions.stream().mapToInt(Integer::intValue).toArray();
+        }
+        putTokens(docId, version, terms, positions);
+    }
+
+    /**
+     * 토큰화된 문서 추가/교체 (디스크에서 복원할 때 사용)
+     */
+    public void putTokens(long docId, long version, String[][] terms, int[][] positions) {
+        // 용어별/필드별 등장 횟수를 먼저 세고, 배열을 한 번에 할당해 채움
+        Map<String, int[][]> local = new HashMap<>();
+        for (int f = 0; f < fieldCount; f++) {
+            Map<String, Integer> counts = new HashMap<>();
+            for (String term : terms[f]) {
+                counts.merge(term, 1, Integer::sum);
+            }
+            for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+                local.computeIfAbsent(entry.getKey(), k -> new int[fieldCount][])[f] = new int[entry.getValue()];
+            }
+            Map<String, Integer> cursor = new HashMap<>();
+            for (int i = 0; i < terms[f].length; i++) {
+                int slot = cursor.merge(terms[f][i], 1, Integer::sum) - 1;
+                local.get(terms[f][i])[f][slot] = positions[f][i];
+            }
+        }
+        for (int[][] byField : local.values()) {
+            for (int[] fieldPositions : byField) {
+                if (fieldPositions != null) {
+                    Arrays.sort(fieldPositions);
+                }
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(docId);
+            for (Map.Entry<String, int[][]> entry : local.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), k -> new HashMap<>()).put(docId, entry.getValue());
+            }
+            Doc doc = new Doc(version, terms, positions);
+            for (int f = 0; f < fieldCount; f++) {
+                totalLengths[f] += terms[f].length;
+            }
+            docs.put(docId, doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long docId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(long docId) {
+        Doc doc = docs.remove(docId);
+        if (doc == null) {
+            return;
+        }
+        for (int f = 0; f < fieldCount; f++) {
+            totalLengths[f] -= doc.terms[f].length;
+            for (String term : doc.terms[f]) {
+                Map<Long, int[][]> termPostings = postings.get(term);
+                if (termPostings != null && termPostings.remove(docId) != null && termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    // ===== 조회 =====
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 문서별 버전 스냅샷 (DB와 비교해 변경분만 다시 색인할 때 사용)
+     */
+    public Map<Long, Long> versions() {
+        lock.readLock().lock();
+        try {
+            Map<Long, Long> versions = new HashMap<>(docs.size() * 2);
+            docs.forEach((id, doc) -> versions.put(id, doc.version));
+            return versions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void forEachDoc(DocVisitor visitor) {
+        lock.readLock().lock();
+        try {
+            docs.forEach((id, doc) -> visitor.visit(id, doc.version, doc.terms, doc.positions));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색
+     * @param fields 검색할 필드 번호
+     * @return 점수 내림차순 (동점이면 문서 ID 내림차순)
+     */
+    public List<Hit> search(String query, int... fields) {
+        List<QueryWord> words = parse(query);
+        if (words.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            Set<Long> matched = null;
+            Set<String> scoringTerms = new LinkedHashSet<>();
+            for (QueryWord word : words) {
+                Set<Long> wordDocs = matchWord(word, fields, scoringTerms);
+                if (matched == null) {
+                    matched = wordDocs;
+                } else {
+                    matched.retainAll(wordDocs);
+                }
+                if (matched.isEmpty()) {
+                    return Collections.emptyList();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(matched.size());
+            for (Long docId : matched) {
+                hits.add(new Hit(docId, score(docId, scoringTerms, fields)));
+            }
+            hits.sort((a, b) -> {
+                int byScore = Double.compare(b.score, a.score);
+                return byScore != 0 ? byScore : Long.compare(b.docId, a.docId);
+            });
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<QueryWord> parse(String query) {
+        List<QueryWord> words = new ArrayList<>();
+        if (query == null) {
+            return words;
+        }
+        for (String raw : query.trim().split("\\s+")) {
+            List<String> terms = new ArrayList<>();
+            List<Integer> offsets = new ArrayList<>();
+            BigramTokenizer.tokenize(raw, (term, position) -> {
+                terms.add(term);
+                offsets.add(position);
+            });
+            if (terms.isEmpty()) {
+                continue;
+            }
+            int base = offsets.get(0);
+            int[] relative = new int[offsets.size()];
+            for (int i = 0; i < relative.length; i++) {
+                relative[i] = offsets.get(i) - base;
+            }
+            words.add(new QueryWord(terms.toArray(new String[0]), relative));
+        }
+        return words;
+    }
+
+    private Set<Long> matchWord(QueryWord word, int[] fields, Set<String> scoringTerms) {
+        Set<Long> result = new HashSet<>();
+        int last = word.terms.length - 1;
+        for (String candidate : expand(word.terms[last])) {
+            String[] terms = word.terms.clone();
+            terms[last] = candidate;
+
+            // 가장 드문 용어의 문서부터 확인
+            Map<Long, int[][]>[] termPostings = lookup(terms);
+            if (termPostings == null) {
+                continue;
+            }
+            Map<Long, int[][]> rarest = termPostings[0];
+            for (Map<Long, int[][]> postingsOfTerm : termPostings) {
+                if (postingsOfTerm.size() < rarest.size()) {
+                    rarest = postingsOfTerm;
+                }
+            }
+            boolean used = false;
+            for (Long docId : rarest.keySet()) {
+                if (!result.contains(docId) && matchesPhrase(docId, termPostings, word.relative, fields)) {
+                    result.add(docId);
+                    used = true;
+                }
+            }
+            if (used) {
+                Collections.addAll(scoringTerms, terms);
+            }
+        }
+        return result;
+    }
+
+    // 마지막 토큰의 확장 후보 (한 글자 또는 영문/숫자만 접두어 확장, 바이그램은 그대로)
+    private List<String> expand(String term) {
+        if (term.length() > 1 && BigramTokenizer.isCjk(term.charAt(0))) {
+            return List.of(term);
+        }
+        List<String> expanded = new ArrayList<>();
+        for (String candidate : postings.subMap(term, true, term + Character.MAX_VALUE, false).keySet()) {
+            expanded.add(candidate);
+            if (expanded.size() >= MAX_EXPANSIONS) {
+                break;
+            }
+        }
+        return expanded;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, int[][]>[] lookup(String[] terms) {
+        Map<Long, int[][]>[] result = new Map[terms.length];
+        for (int i = 0; i < terms.length; i++) {
+            result[i] = postings.get(terms[i]);
+            if (result[i] == null) {
+                return null;
+            }
+        }
+        return result;
+    }
+
+    private boolean matchesPhrase(Long docId, Map<Long, int[][]>[] termPostings, int[] relative, int[] fields) {
+        int[][][] byTerm = new int[termPostings.length][][];
+        for (int i = 0; i < termPostings.length; i++) {
+            byTerm[i] = termPostings[i].get(docId);
+            if (byTerm[i] == null) {
+                return false;
+            }
+        }
+        for (int f : fields) {
+            int[] first = byTerm[0][f];
+            if (first == null) {
+                continue;
+            }
+            nextStart:
+            for (int start : first) {
+                for (int i = 1; i < byTerm.length; i++) {
+                    int[] positions = byTerm[i][f];
+                    if (positions == null) {
+                        break nextStart;
+                    }
+                    if (Arrays.binarySearch(positions, start + relative[i]) < 0) {
+                        continue nextStart;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * BM25 (필드별 점수에 가중치를 곱해 합산)
+     */
+    private double score(Long docId, Set<String> terms, int[] fields) {
+        Doc doc = docs.get(docId);
+        int docCount = docs.size();
+        double score = 0;
+        for (String term : terms) {
+            Map<Long, int[][]> termPostings = postings.get(term);
+            int[][] byField = termPostings != null ? termPostings.get(docId) : null;
+            if (byField == null) {
+                continue;
+            }
+            int df = termPostings.size();
+            double idf = Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+            for (int f : fields) {
+                if (byField[f] == null) {
+                    continue;
+                }
+                double tf = byField[f].length;
+                double avgLength = Math.max(1.0, (double) totalLengths[f] / docCount);
+                double norm = K1 * (1 - B + B * doc.terms[f].length / avgLength);
+                score += fieldWeights[f] * idf * tf * (K1 + 1) / (tf + norm);
+            }
+        }
+        return score;
+    }
+
+    private static final class QueryWord {
+        private final String[] terms;
+        private final int[] relative; // 첫 토큰 기준 상대 위치
+
+        private QueryWord(String[] terms, int[] relative) {
+            this.terms = terms;
+            this.relative = relative;
+        }
+    }
+
+    private static final class Doc {
+        private final long version;
+        private final String[][] terms;  // 필드별 토큰 (위치 순)
+        private final int[][] positions;
+
+        private Doc(long version, String[][] terms, int[][] positions) {
+            this.version = version;
+            this.terms = terms;
+            this.positions = positions;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.tour_backend.util.tour;
+
+import com.example.tour_backend.dto.tour.plan.ScheduleItemDto;
+import com.example.tour_backend.dto.tour.plan.TravelPlanDto;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 계획 데이터의 날짜별 일정 개수 집계
+ */
+public class ScheduleDateCounter {
+
+    /**
+     * 여행 기간 [startDate, endDate] 안의 날짜별 일정 개수 (날짜 오름차순, 날짜 형식 오류 항목은 제외)
+     */
+    public static Map<LocalDate, Integer> countByDate(TravelPlanDto planData, LocalDate startDate, LocalDate endDate) {
+        Map<LocalDate, Integer> counts = new TreeMap<>();
+        if (planData == null || planData.getSchedules() == null) {
+            return counts;
+        }
+        for (ScheduleItemDto schedule : planData.getSchedules()) {
+            if (schedule == null || schedule.getDate() == null) {
+                continue;
+            }
+            try {
+                LocalDate date = LocalDate.parse(schedule.getDate());
+                if (!date.isBefore(startDate) && !date.isAfter(endDate)) {
+                    counts.merge(date, 1, Integer::sum);
+                }
+            } catch (DateTimeParseException ignored) {
+                // 형식이 잘못된 날짜는 집계하지 않음
+            }
+        }
+        return counts;
+    }
+}
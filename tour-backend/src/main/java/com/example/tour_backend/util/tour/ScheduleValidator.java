@@ -0,0 +1,309 @@
+package com.example.tour_backend.util.tour;
+
+import com.example.tour_backend.dto.tour.plan.CoordinatesDto;
+import com.example.tour_backend.dto.tour.plan.LocationDataDto;
+import com.example.tour_backend.dto.tour.plan.ScheduleItemDto;
+import com.example.tour_backend.dto.tour.plan.TravelPlanDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 일정(ScheduleItemDto) 검증 엔진
+ * - 규칙 목록은 클래스 로딩 시 한 번만 조립되고, 일정 목록은 한 번만 순회
+ * - 날짜/시간은 문자열에서 바로 숫자로 파싱하므로 정상 일정에서는 객체를 만들지 않음
+ * - 오류는 "schedules[17].endTime" 형태의 경로와 함께 반환
+ * - 종료 시간이 시작 시간보다 이르면 자정을 넘겨 다음 날 끝나는 일정으로 봄 (예: 23:00 ~ 01:00)
+ */
+public final class ScheduleValidator {
+
+    private static final int NONE = Integer.MIN_VALUE;
+    private static final double MAX_RATING = 5.0;
+
+    /**
+     * 단일 검증 규칙 - 위반 시 ctx.reject() 호출
+     */
+    @FunctionalInterface
+    interface Rule {
+        void check(ScheduleItemDto item, Context ctx);
+    }
+
+    /**
+     * 검증 오류 (경로 + 메시지)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Violation {
+        private final String path;
+        private final String message;
+
+        @Override
+        public String toString() {
+            return path + ": " + message;
+        }
+    }
+
+    // 순서가 중요함: 앞 규칙이 파싱한 값(epochDay, 분 단위 시간)을 뒤 규칙이 사용
+    private static final Rule[] RULES = {
+            ScheduleValidator::checkDate,
+            ScheduleValidator::checkDateInTrip,
+            ScheduleValidator::checkTimes,
+            ScheduleValidator::checkCoordinates,
+            ScheduleValidator::checkRating
+    };
+
+    private ScheduleValidator() {
+    }
+
+    /**
+     * 계획 데이터의 모든 일정 검증
+     * @param tripStart 여행 시작일 (null이면 여행 기간 규칙 생략)
+     * @param tripEnd   여행 종료일 (null이면 여행 기간 규칙 생략)
+     * @return 위반 목록 (없으면 빈 목록)
+     */
+    public static List<Violation> validate(TravelPlanDto plan, LocalDate tripStart, LocalDate tripEnd) {
+        if (plan == null || plan.getSchedules() == null || plan.getSchedules().isEmpty()) {
+            return Collections.emptyList();
+        }
+        return validate(plan.getSchedules(), tripStart, tripEnd);
+    }
+
+    public static List<Violation> validate(List<ScheduleItemDto> schedules, LocalDate tripStart, LocalDate tripEnd) {
+        Context ctx = new Context(
+                tripStart != null ? tripStart.toEpochDay() : Long.MIN_VALUE,
+                tripEnd != null ? tripEnd.toEpochDay() : Long.MAX_VALUE);
+
+        // 인덱스 순회 (Iterator 생성 방지)
+        int size = schedules.size();
+        for (int i = 0; i < size; i++) {
+            ScheduleItemDto item = schedules.get(i);
+            ctx.reset(i);
+            if (item == null) {
+                ctx.reject(null, "일정 항목이 비어 있습니다.");
+                continue;
+            }
+            for (Rule rule : RULES) {
+                rule.check(item, ctx);
+            }
+        }
+        return ctx.violations != null ? ctx.violations : Collections.emptyList();
+    }
+
+    // ===== 규칙 =====
+
+    private static void checkDate(ScheduleItemDto item, Context ctx) {
+        String date = item.getDate();
+        if (date == null || date.isBlank()) {
+            ctx.reject("date", "일정 날짜는 필수입니다.");
+            return;
+        }
+        long epochDay = parseEpochDay(date);
+        if (epochDay == Long.MIN_VALUE) {
+            ctx.reject("date", "날짜 형식이 올바르지 않습니다. (yyyy-MM-dd)");
+            return;
+        }
+        ctx.epochDay = epochDay;
+    }
+
+    private static void checkDateInTrip(ScheduleItemDto item, Context ctx) {
+        if (ctx.epochDay == Long.MIN_VALUE) {
+            return;
+        }
+        if (ctx.epochDay < ctx.tripStart || ctx.epochDay > ctx.tripEnd) {
+            ctx.reject("date", "일정 날짜가 여행 기간을 벗어났습니다.");
+        }
+    }
+
+    private static void checkTimes(ScheduleItemDto item, Context ctx) {
+        int start = parseMinutes(item.getStartTime());
+        int end = parseMinutes(item.getEndTime());
+        if (start == -1) {
+            ctx.reject("startTime", "시작 시간이 올바르지 않습니다.");
+        }
+        if (end == -1) {
+            ctx.reject("endTime", "종료 시간이 올바르지 않습니다.");
+        }
+        // 자정을 넘기는 일정은 다음 날 끝나므로 여행 마지막 날에는 둘 수 없음
+        if (start >= 0 && end >= 0 && end < start && ctx.epochDay == ctx.tripEnd) {
+            ctx.reject("endTime", "여행 마지막 날 일정은 자정을 넘길 수 없습니다.");
+        }
+    }
+
+    private static void checkCoordinates(ScheduleItemDto item, Context ctx) {
+        LocationDataDto location = item.getLocationData();
+        if (location == null || location.getCoordinates() == null) {
+            return;
+        }
+        CoordinatesDto coordinates = location.getCoordinates();
+        Double lat = coordinates.getLat();
+        Double lng = coordinates.getLng();
+        if (lat != null && (lat.isNaN() || lat < -90 || lat > 90)) {
+            ctx.reject("locationData.coordinates.lat", "위도는 -90 ~ 90 범위여야 합니다.");
+        }
+        if (lng != null && (lng.isNaN() || lng < -180 || lng > 180)) {
+            ctx.reject("locationData.coordinates.lng", "경도는 -180 ~ 180 범위여야 합니다.");
+        }
+    }
+
+    private static void checkRating(ScheduleItemDto item, Context ctx) {
+        LocationDataDto location = item.getLocationData();
+        if (location == null || location.getRating() == null) {
+            return;
+        }
+        double rating = location.getRating();
+        if (Double.isNaN(rating) || rating < 0 || rating > MAX_RATING) {
+            ctx.reject("locationData.rating", "평점은 0 ~ " + MAX_RATING + " 범위여야 합니다.");
+        }
+    }
+
+    // ===== 파싱 (할당 없음) =====
+
+    /**
+     * "yyyy-MM-dd" -> epochDay, 형식/달력 오류면 Long.MIN_VALUE
+     */
+    static long parseEpochDay(String s) {
+        if (s.length() != 10 || s.charAt(4) != '-' || s.charAt(7) != '-') {
+            return Long.MIN_VALUE;
+        }
+        int year = digits(s, 0, 4);
+        int month = digits(s, 5, 7);
+        int day = digits(s, 8, 10);
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return Long.MIN_VALUE;
+        }
+        // days-from-civil (proleptic Gregorian), LocalDate.toEpochDay()와 동일한 결과
+        int y = month <= 2 ? year - 1 : year;
+        int era = y / 400;
+        int yoe = y - era * 400;
+        int mp = (month + 9) % 12;
+        int doy = (153 * mp + 2) / 5 + day - 1;
+        int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return (long) era * 146097 + doe - 719468;
+    }
+
+    /**
+     * 시간 문자열 -> 자정 기준 분
+     * - "HH:mm", "H:mm", "HH:mm:ss" 및 구글 경로 응답 형식("오후 2:30", "2:30 PM") 허용
+     * - 빈 값은 NONE (검사 생략), 형식 오류는 -1
+     */
+    static int parseMinutes(String s) {
+        if (s == null || s.isBlank()) {
+            return NONE;
+        }
+        int from = 0;
+        int to = s.length();
+        int meridiem = 0; // 0: 24시간제, 1: 오전/AM, 2: 오후/PM
+
+        while (from < to && s.charAt(from) == ' ') from++;
+        while (to > from && s.charAt(to - 1) == ' ') to--;
+
+        if (s.startsWith("오전", from)) {
+            meridiem = 1;
+            from += 2;
+        } else if (s.startsWith("오후", from)) {
+            meridiem = 2;
+            from += 2;
+        } else if (to - from > 2 && s.regionMatches(true, to - 2, "AM", 0, 2)) {
+            meridiem = 1;
+            to -= 2;
+        } else if (to - from > 2 && s.regionMatches(true, to - 2, "PM", 0, 2)) {
+            meridiem = 2;
+            to -= 2;
+        }
+        while (from < to && s.charAt(from) == ' ') from++;
+        while (to > from && s.charAt(to - 1) == ' ') to--;
+
+        int colon = s.indexOf(':', from);
+        if (colon < 0 || colon >= to || colon - from < 1 || colon - from > 2) {
+            return -1;
+        }
+        int hour = digits(s, from, colon);
+        int minuteEnd = colon + 3;
+        if (minuteEnd > to) {
+            return -1;
+        }
+        int minute = digits(s, colon + 1, minuteEnd);
+        if (minuteEnd != to) {
+            // 초 단위 (":ss")는 허용하되 값만 확인
+            if (to - minuteEnd != 3 || s.charAt(minuteEnd) != ':' || digits(s, minuteEnd + 1, to) > 59) {
+                return -1;
+            }
+        }
+        if (hour < 0 || minute < 0 || minute > 59) {
+            return -1;
+        }
+        if (meridiem == 0) {
+            return hour > 23 ? -1 : hour * 60 + minute;
+        }
+        if (hour < 1 || hour > 12) {
+            return -1;
+        }
+        hour = hour % 12 + (meridiem == 2 ? 12 : 0);
+        return hour * 60 + minute;
+    }
+
+    /**
+     * s[from, to) 구간의 10진수 값, 숫자가 아닌 문자가 있으면 -1
+     */
+    private static int digits(String s, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                boolean leap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+                return leap ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * 검증 1회 동안 재사용되는 상태 (일정마다 reset)
+     */
+    static final class Context {
+        private final long tripStart;
+        private final long tripEnd;
+        private int index;
+        private long epochDay;
+        private List<Violation> violations; // 오류가 생길 때만 생성
+
+        private Context(long tripStart, long tripEnd) {
+            this.tripStart = tripStart;
+            this.tripEnd = tripEnd;
+        }
+
+        private void reset(int index) {
+            this.index = index;
+            this.epochDay = Long.MIN_VALUE;
+        }
+
+        void reject(String field, String message) {
+            if (violations == null) {
+                violations = new ArrayList<>();
+            }
+            String path = field == null
+                    ? "schedules[" + index + "]"
+                    : "schedules[" + index + "]." + field;
+            violations.add(new Violation(path, message));
+        }
+    }
+}
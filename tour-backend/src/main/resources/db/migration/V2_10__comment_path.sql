@@ -0,0 +1,6 @@
+-- 댓글 경로 (materialized path): 루트부터 자기 자신까지 comment_id를 36진수 8자리로 이어 붙임
+-- 하위 트리/하위 댓글 수/트리 순서 렌더링을 (thread_id, path) 범위 조회 한 번으로 처리
+ALTER TABLE comment ADD COLUMN path VARCHAR(800) CHARACTER SET ascii COLLATE ascii_bin;
+ALTER TABLE comment ADD COLUMN depth INT;
+CREATE INDEX idx_comment_thread_path ON comment(thread_id, path);
+-- 기존 댓글은 애플리케이션 시작 시 CommentPathBackfill이 채움
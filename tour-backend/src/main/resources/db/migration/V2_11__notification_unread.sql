@@ -0,0 +1,3 @@
+-- 안 읽은 알림 수 (GET /api/notifications/user/{userId}/unread-count 캐시 미스 시 COUNT(*))
+-- (user_id, is_read) + PK(notice_id) → 테이블을 읽지 않고 인덱스만으로 계산
+CREATE INDEX idx_notification_user_read ON notification(user_id, is_read);
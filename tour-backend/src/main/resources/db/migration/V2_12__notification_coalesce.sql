@@ -0,0 +1,7 @@
+-- 알림 묶음 ("OO님 외 N명이 댓글을 남겼습니다.")
+-- 같은 수신자·게시글·종류의 안 읽은 알림은 시간 구간마다 한 행 (group_key 유니크 → INSERT ... ON DUPLICATE KEY UPDATE)
+-- 읽음 처리 시 group_key = NULL (NULL은 중복 허용 → 이후 알림은 새 행)
+ALTER TABLE notification ADD COLUMN group_key VARCHAR(100) NULL;
+ALTER TABLE notification ADD COLUMN actor_count INT NOT NULL DEFAULT 1;
+ALTER TABLE notification ADD COLUMN actors VARCHAR(255) NULL;
+CREATE UNIQUE INDEX uk_notification_group ON notification(group_key);
@@ -0,0 +1,3 @@
+-- 알림 보존 기간 정리 (NotificationRetentionPurger)
+-- DELETE ... WHERE is_read = ? AND create_date < ? ORDER BY create_date, notice_id LIMIT ? 를 인덱스 순서로 처리
+CREATE INDEX idx_notification_read_date ON notification(is_read, create_date);
@@ -0,0 +1,12 @@
+-- 알림 아웃박스 (댓글 저장과 같은 트랜잭션에서 기록, NotificationOutboxDispatcher가 발송 후 삭제)
+-- 여러 서버가 SELECT ... WHERE next_attempt_at <= ? ... FOR UPDATE SKIP LOCKED 로 나눠 처리 (MariaDB 10.6+)
+CREATE TABLE notification_outbox (
+    id              BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_type      VARCHAR(50)  NOT NULL,
+    payload         TEXT         NOT NULL,
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    last_error      VARCHAR(500) NULL,
+    create_date     DATETIME(6)  NOT NULL
+);
+CREATE INDEX idx_notification_outbox_due ON notification_outbox(next_attempt_at, id);
@@ -0,0 +1,25 @@
+-- 묶음 알림의 서로 다른 댓글 작성 회원 (actor_count = 이 테이블의 행 수)
+-- 최근 이름 목록(actors, 최대 5명)에서 밀려난 회원이 다시 댓글을 달아도 중복 집계하지 않음
+CREATE TABLE IF NOT EXISTS notification_actor (
+    id        BIGINT AUTO_INCREMENT PRIMARY KEY,
+    notice_id BIGINT NOT NULL,
+    actor_id  BIGINT NOT NULL,
+    CONSTRAINT uk_notification_actor UNIQUE (notice_id, actor_id),
+    CONSTRAINT fk_notification_actor_notice FOREIGN KEY (notice_id) REFERENCES notification(notice_id) ON DELETE CASCADE
+);
+
+-- 묶음 알림은 첫 댓글을 가리키므로 댓글 하나가 삭제돼도 알림 전체가 지워지지 않도록 SET NULL
+-- 기존 FK 이름은 Hibernate가 생성한 값(FK...)이라 information_schema에서 찾아 삭제 (없으면 건너뜀)
+-- 엔티티는 fk_notification_comment로 이름을 고정하므로 새 스키마도 같은 이름
+SET @fk_name := (SELECT CONSTRAINT_NAME FROM information_schema.KEY_COLUMN_USAGE
+                 WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'notification'
+                   AND COLUMN_NAME = 'comment_id' AND REFERENCED_TABLE_NAME = 'comment'
+                 LIMIT 1);
+SET @drop_fk := IF(@fk_name IS NULL, 'SELECT 1',
+                   CONCAT('ALTER TABLE notification DROP FOREIGN KEY `', @fk_name, '`'));
+PREPARE drop_fk FROM @drop_fk;
+EXECUTE drop_fk;
+DEALLOCATE PREPARE drop_fk;
+
+ALTER TABLE notification ADD CONSTRAINT fk_notification_comment
+    FOREIGN KEY (comment_id) REFERENCES comment(comment_id) ON DELETE SET NULL;
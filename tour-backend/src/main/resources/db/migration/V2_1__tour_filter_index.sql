@@ -0,0 +1,14 @@
+-- Tour 필터 API(GET /api/tours/filter)용 파생 컬럼 및 복합 인덱스
+
+-- 1단계: 여행 일수 컬럼 추가 (Tour 엔티티의 @PrePersist/@PreUpdate에서 갱신)
+ALTER TABLE tour ADD COLUMN total_days INT;
+
+-- 2단계: 기존 데이터 채우기
+UPDATE tour SET total_days = DATEDIFF(end_date, start_date) + 1 WHERE total_days IS NULL;
+
+-- 3단계: 복합 인덱스 (예산 + 기간 겹침 + 인원 / 기간 겹침 + 여행 일수)
+CREATE INDEX idx_tour_budget_dates ON tour(budget, start_date, end_date, travelers);
+CREATE INDEX idx_tour_dates ON tour(start_date, end_date, total_days);
+
+-- 단일 컬럼 인덱스는 복합 인덱스로 대체됨
+DROP INDEX idx_tour_budget ON tour;
@@ -0,0 +1,28 @@
+-- 여행 리마인더 알림 지원
+
+-- 1단계: 알림 종류 / 관련 여행 컬럼 추가, 댓글 알림 전용 컬럼은 NULL 허용
+ALTER TABLE notification
+ADD COLUMN type VARCHAR(20) NOT NULL DEFAULT 'COMMENT',
+ADD COLUMN tour_id BIGINT NULL,
+MODIFY thread_id BIGINT NULL,
+MODIFY comment_id BIGINT NULL;
+
+ALTER TABLE notification
+ADD CONSTRAINT fk_notification_tour FOREIGN KEY (tour_id) REFERENCES tour(tour_id) ON DELETE CASCADE;
+
+-- 2단계: 리마인더 예약 테이블
+CREATE TABLE IF NOT EXISTS tour_reminder (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    tour_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    kind VARCHAR(20) NOT NULL,
+    remind_date DATE NOT NULL,
+    fire_at DATETIME(6) NOT NULL,
+    message VARCHAR(225) NOT NULL,
+    sent BIT NOT NULL DEFAULT 0,
+    sent_at DATETIME(6) NULL,
+    CONSTRAINT uk_tour_reminder UNIQUE (tour_id, kind, remind_date)
+);
+
+-- 미발송 리마인더를 발송 시각 순으로 읽기 위한 인덱스
+CREATE INDEX idx_tour_reminder_due ON tour_reminder(sent, fire_at, id);
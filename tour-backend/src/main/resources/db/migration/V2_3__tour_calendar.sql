@@ -0,0 +1,13 @@
+-- 월간 캘린더 조회 (GET /api/tours/user/{userId}/calendar)
+
+-- 1단계: 사용자별 기간 조회 인덱스
+CREATE INDEX idx_tour_user_dates ON tour(user_id, start_date, end_date);
+
+-- 2단계: 날짜별 일정 개수 (planData에서 파생, 애플리케이션 시작 시 비어 있으면 백필)
+CREATE TABLE IF NOT EXISTS tour_schedule_day (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    tour_id BIGINT NOT NULL,
+    schedule_date DATE NOT NULL,
+    schedule_count INT NOT NULL,
+    CONSTRAINT uk_tour_schedule_day UNIQUE (tour_id, schedule_date)
+);
@@ -0,0 +1,14 @@
+-- 장소 사전 (planData의 locationData는 placeId만 저장)
+-- 기존 인라인 planData는 그대로 읽을 수 있으며, 다음 저장 시 사전 참조 형태로 변환됨
+CREATE TABLE IF NOT EXISTS place (
+    place_id VARCHAR(255) PRIMARY KEY,
+    name VARCHAR(255),
+    address VARCHAR(500),
+    lat DOUBLE,
+    lng DOUBLE,
+    rating DOUBLE,
+    photo_url TEXT,
+    google_map_link VARCHAR(1000),
+    create_date DATETIME(6),
+    modified_date DATETIME(6)
+);
@@ -0,0 +1,5 @@
+-- 게시판 커서 페이지 (GET /api/thread?size=&cursor=&area=&sort=)
+-- 최신순(지역 없음)은 PK 사용
+CREATE INDEX idx_thread_area_id ON thread(area, thread_id);
+CREATE INDEX idx_thread_count ON thread(count, thread_id);
+CREATE INDEX idx_thread_heart ON thread(heart, thread_id);
@@ -0,0 +1,7 @@
+-- 인기 게시글 점수 저장본 (GET /api/thread/trending, 메모리 순위를 주기적으로 전체 교체 저장)
+CREATE TABLE IF NOT EXISTS thread_trending_score (
+    thread_id BIGINT PRIMARY KEY,
+    area VARCHAR(255),
+    score DOUBLE NOT NULL,
+    scored_at DATETIME(6) NOT NULL
+);
@@ -0,0 +1,7 @@
+-- 게시글 지역 정규화 키 (GET /api/thread/areas, 지역 필터)
+-- 기존 행은 애플리케이션의 지역 집계 동기화 작업(AreaFacetService)이 채움
+ALTER TABLE thread ADD COLUMN area_key VARCHAR(255);
+
+-- 커서 페이지의 지역 조건을 원래 표기 대신 정규화 키로 비교
+DROP INDEX idx_thread_area_id ON thread;
+CREATE INDEX idx_thread_area_id ON thread(area_key, thread_id);
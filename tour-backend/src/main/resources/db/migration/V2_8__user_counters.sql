@@ -0,0 +1,11 @@
+-- 회원별 작성 게시글/댓글 수 (CounterService가 쓰기와 같은 트랜잭션에서 증감)
+ALTER TABLE users ADD COLUMN thread_count INT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN comment_count INT NOT NULL DEFAULT 0;
+
+-- 기존 값 채우기 (이후 오차는 CounterReconciler가 매일 복구)
+UPDATE users u SET
+    thread_count  = (SELECT COUNT(*) FROM thread t WHERE t.user_id = u.user_id),
+    comment_count = (SELECT COUNT(*) FROM comment c WHERE c.user_id = u.user_id);
+
+-- 지금까지 갱신되지 않던 게시글 댓글 수 보정
+UPDATE thread t SET comment_count = (SELECT COUNT(*) FROM comment c WHERE c.thread_id = t.thread_id);
@@ -0,0 +1,3 @@
+-- 댓글 커서 페이지 (GET /api/comments/thread/{threadId}?size=, GET /api/comments/{commentId}/replies)
+-- 최상위 댓글(parent_id IS NULL)과 특정 댓글의 대댓글을 작성 순으로 읽음
+CREATE INDEX idx_comment_thread_parent ON comment(thread_id, parent_id, create_date);
@@ -0,0 +1,95 @@
+package com.example.tour_backend.service;
+
+import com.example.tour_backend.dto.comment.CommentDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommentServiceTreeTests {
+
+	@Test
+	void deepChainIsAssembledWithoutRecursion() {
+		int size = 10_000;
+		List<CommentDto> flat = new ArrayList<>();
+		flat.add(comment(1L, null));
+		for (long id = 2; id <= size; id++) {
+			flat.add(comment(id, id - 1));
+		}
+
+		List<CommentDto> roots = CommentService.assembleTree(flat);
+
+		assertEquals(1, roots.size());
+		CommentDto node = roots.get(0);
+		for (long id = 1; id < size; id++) {
+			assertEquals(id, node.getCommentId());
+			assertEquals(1L, node.getReplyCount());
+			assertEquals(1, node.getComments().size());
+			node = node.getComments().get(0);
+		}
+		assertEquals(size, node.getCommentId());
+		assertEquals(0L, node.getReplyCount());
+		assertTrue(node.getComments().isEmpty());
+	}
+
+	@Test
+	void wideTreeKeepsInputOrderAtEveryLevel() {
+		int width = 10_000;
+		List<CommentDto> flat = new ArrayList<>();
+		flat.add(comment(1L, null));
+		flat.add(comment(2L, null));
+		for (long id = 3; id < 3 + width; id++) {
+			flat.add(comment(id, 1L));
+		}
+		// 두 번째 자식(4)의 답글들은 자식 목록 뒤에 섞여 들어와도 입력 순서 유지
+		flat.add(comment(20_000L, 4L));
+		flat.add(comment(20_001L, 2L));
+		flat.add(comment(20_002L, 4L));
+
+		List<CommentDto> roots = CommentService.assembleTree(flat);
+
+		assertEquals(List.of(1L, 2L), ids(roots));
+		CommentDto first = roots.get(0);
+		assertEquals(width, first.getComments().size());
+		assertEquals((long) width, first.getReplyCount());
+		for (int i = 0; i < width; i++) {
+			assertEquals(3L + i, first.getComments().get(i).getCommentId());
+		}
+		assertEquals(List.of(20_000L, 20_002L), ids(first.getComments().get(1).getComments()));
+		assertEquals(2L, first.getComments().get(1).getReplyCount());
+		assertEquals(List.of(20_001L), ids(roots.get(1).getComments()));
+	}
+
+	@Test
+	void commentWithMissingParentBecomesRoot() {
+		List<CommentDto> flat = new ArrayList<>();
+		flat.add(comment(1L, null));
+		flat.add(comment(2L, 99L)); // 부모가 조회 범위에 없음
+		flat.add(comment(3L, 2L));
+
+		List<CommentDto> roots = CommentService.assembleTree(flat);
+
+		assertEquals(List.of(1L, 2L), ids(roots));
+		assertEquals(List.of(3L), ids(roots.get(1).getComments()));
+	}
+
+	@Test
+	void emptyInputGivesEmptyTree() {
+		assertTrue(CommentService.assembleTree(new ArrayList<>()).isEmpty());
+	}
+
+	private CommentDto comment(Long id, Long parentId) {
+		CommentDto dto = new CommentDto();
+		dto.setCommentId(id);
+		dto.setParentId(parentId);
+		dto.setComments(new ArrayList<>());
+		return dto;
+	}
+
+	private List<Long> ids(List<CommentDto> comments) {
+		return comments.stream().map(CommentDto::getCommentId).toList();
+	}
+}
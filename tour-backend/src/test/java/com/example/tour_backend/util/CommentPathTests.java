@@ -0,0 +1,147 @@
+package com.example.tour_backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommentPathTests {
+
+	@Test
+	void segmentIsZeroPaddedLowercaseBase36() {
+		assertEquals("00000000", CommentPath.child(null, 0));
+		assertEquals("00000009", CommentPath.child(null, 9));
+		assertEquals("0000000a", CommentPath.child(null, 10));
+		assertEquals("0000000z", CommentPath.child(null, 35));
+		assertEquals("00000010", CommentPath.child(null, 36));
+		assertEquals("000000zz", CommentPath.child(null, 1295));
+		assertEquals("zzzzzzzz", CommentPath.child(null, CommentPath.MAX_ID));
+		assertEquals("000000030000000k", CommentPath.child(CommentPath.child(null, 3), 20));
+	}
+
+	@Test
+	void idsOutsideSegmentRangeAreRejected() {
+		assertThrows(IllegalArgumentException.class, () -> CommentPath.child(null, CommentPath.MAX_ID + 1));
+		assertThrows(IllegalArgumentException.class, () -> CommentPath.child(null, -1));
+	}
+
+	// CommentPathBackfill의 LPAD(LOWER(CONV(id, 10, 36)), 8, '0')와 바이트 단위로 같아야 함
+	@Test
+	void matchesBackfillSqlSegment() {
+		List<Long> ids = new ArrayList<>();
+		for (long id = 0; id < 5000; id++) {
+			ids.add(id);
+		}
+		long power = 1;
+		for (int i = 1; i <= CommentPath.SEGMENT_WIDTH; i++) {
+			power *= 36;
+			ids.add(power - 1);
+			if (power <= CommentPath.MAX_ID) {
+				ids.add(power);
+				ids.add(power + 1);
+			}
+		}
+		Random random = new Random(43);
+		for (int i = 0; i < 10000; i++) {
+			ids.add((long) (random.nextDouble() * CommentPath.MAX_ID));
+		}
+
+		for (long id : ids) {
+			assertEquals(lpad(conv36(id).toLowerCase(), CommentPath.SEGMENT_WIDTH), CommentPath.child(null, id));
+		}
+	}
+
+	@Test
+	void stringOrderIsNumericOrderOfIds() {
+		List<Long> ids = new ArrayList<>();
+		Random random = new Random(7);
+		for (int i = 0; i < 2000; i++) {
+			ids.add(random.nextInt(100000) + 0L);
+		}
+		ids.add(35L);
+		ids.add(36L);
+		Collections.sort(ids);
+
+		for (int i = 1; i < ids.size(); i++) {
+			int cmp = CommentPath.child(null, ids.get(i - 1)).compareTo(CommentPath.child(null, ids.get(i)));
+			assertEquals(Long.compare(ids.get(i - 1), ids.get(i)), Integer.signum(cmp));
+		}
+	}
+
+	// 부모 → 자식(작성 순) → 다음 형제 순서 = 전위 순회
+	@Test
+	void childrenSortBetweenParentAndNextSibling() {
+		String first = CommentPath.child(null, 35);
+		String firstChild = CommentPath.child(first, 2);
+		String firstGrandChild = CommentPath.child(firstChild, 1000);
+		String firstSecondChild = CommentPath.child(first, 40);
+		String second = CommentPath.child(null, 36);
+
+		List<String> expected = List.of(first, firstChild, firstGrandChild, firstSecondChild, second);
+		List<String> sorted = new ArrayList<>(List.of(second, firstSecondChild, firstGrandChild, first, firstChild));
+		Collections.sort(sorted);
+		assertEquals(expected, sorted);
+	}
+
+	@Test
+	void rangeEndBoundsSubtree() {
+		String parent = CommentPath.child(null, 100);
+		String end = CommentPath.rangeEnd(parent);
+		String deepest = parent;
+		for (int i = 0; i < 10; i++) {
+			deepest = CommentPath.child(deepest, CommentPath.MAX_ID);
+		}
+
+		// 하위 트리 (자기 자신 포함)
+		for (String path : List.of(parent, CommentPath.child(parent, 0), CommentPath.child(parent, CommentPath.MAX_ID), deepest)) {
+			assertTrue(parent.compareTo(path) <= 0, path);
+			assertTrue(path.compareTo(end) < 0, path);
+		}
+		// 앞/뒤 형제와 그 하위 트리는 범위 밖
+		for (String path : List.of(CommentPath.child(null, 99), CommentPath.child(CommentPath.child(null, 99), CommentPath.MAX_ID),
+				CommentPath.child(null, 101), CommentPath.child(CommentPath.child(null, 101), 0))) {
+			assertFalse(parent.compareTo(path) <= 0 && path.compareTo(end) < 0, path);
+		}
+	}
+
+	@Test
+	void depthAndMaxDepthFitColumn() {
+		String path = null;
+		for (int depth = 0; depth <= CommentPath.MAX_DEPTH; depth++) {
+			path = CommentPath.child(path, CommentPath.MAX_ID);
+			assertEquals(depth, CommentPath.depth(path));
+		}
+
+		assertEquals(99, CommentPath.MAX_DEPTH);
+		assertEquals(CommentPath.MAX_LENGTH, path.length());
+		assertTrue(CommentPath.child(path, 1).length() > CommentPath.MAX_LENGTH);
+	}
+
+	// MariaDB CONV(n, 10, 36): 대문자 0-9A-Z
+	private static String conv36(long value) {
+		String digits = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+		if (value == 0) {
+			return "0";
+		}
+		StringBuilder sb = new StringBuilder();
+		for (long v = value; v > 0; v /= 36) {
+			sb.append(digits.charAt((int) (v % 36)));
+		}
+		return sb.reverse().toString();
+	}
+
+	// MariaDB LPAD: 짧으면 왼쪽을 채우고, 길면 잘라냄
+	private static String lpad(String value, int width) {
+		if (value.length() >= width) {
+			return value.substring(0, width);
+		}
+		return "0".repeat(width - value.length()) + value;
+	}
+}
@@ -0,0 +1,165 @@
+package com.example.tour_backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HierarchicalTimingWheelTests {
+	// 10ms x 10 → 100ms x 10 → 1s x 10
+	private static final long TICK = 10;
+
+	@Test
+	void startTimeIsAlignedToTick() {
+		HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 1234, 10, 10, 10);
+
+		assertEquals(1230, wheel.currentTime());
+		assertEquals(9000, wheel.spanMillis());
+	}
+
+	@Test
+	void pastDueAndCurrentTickAreRejected() {
+		HierarchicalTimingWheel<String> wheel = wheel();
+
+		assertFalse(wheel.add(-100, "past"));
+		assertFalse(wheel.add(0, "now"));
+		assertFalse(wheel.add(9, "same tick"));
+		assertTrue(wheel.add(10, "next tick"));
+		assertEquals(1, wheel.size());
+	}
+
+	@Test
+	void itemsExpireAtTheStartOfTheirTick() {
+		HierarchicalTimingWheel<String> wheel = wheel();
+		wheel.add(10, "a");
+		wheel.add(19, "b");
+		wheel.add(20, "c");
+		List<String> expired = new ArrayList<>();
+
+		wheel.advance(9, expired::add);
+		assertTrue(expired.isEmpty());
+
+		wheel.advance(10, expired::add);
+		assertEquals(List.of("a", "b"), expired);
+
+		wheel.advance(19, expired::add);
+		assertEquals(List.of("a", "b"), expired);
+
+		wheel.advance(20, expired::add);
+		assertEquals(List.of("a", "b", "c"), expired);
+		assertEquals(0, wheel.size());
+	}
+
+	@Test
+	void secondLevelCascadesIntoFirstLevel() {
+		HierarchicalTimingWheel<String> wheel = wheel();
+		wheel.add(250, "x");
+		List<String> expired = new ArrayList<>();
+
+		wheel.advance(200, expired::add); // 100ms 슬롯이 도래해 10ms 레벨로 내려감
+		assertTrue(expired.isEmpty());
+		assertEquals(1, wheel.size());
+
+		wheel.advance(249, expired::add);
+		assertTrue(expired.isEmpty());
+
+		wheel.advance(250, expired::add);
+		assertEquals(List.of("x"), expired);
+	}
+
+	@Test
+	void topLevelCascadesThroughEveryLevel() {
+		HierarchicalTimingWheel<String> wheel = wheel();
+		wheel.add(5555, "y");
+		List<String> expired = new ArrayList<>();
+
+		wheel.advance(5549, expired::add);
+		assertTrue(expired.isEmpty());
+
+		wheel.advance(5550, expired::add);
+		assertEquals(List.of("y"), expired);
+	}
+
+	@Test
+	void bigJumpExpiresEverythingDueInOrderOfTicks() {
+		HierarchicalTimingWheel<String> wheel = wheel();
+		wheel.add(3000, "c");
+		wheel.add(20, "a");
+		wheel.add(700, "b");
+		List<String> expired = new ArrayList<>();
+
+		wheel.advance(3000, expired::add);
+
+		assertEquals(List.of("a", "b", "c"), expired);
+	}
+
+	@Test
+	void insertBeyondSpanIsRejected() {
+		HierarchicalTimingWheel<String> wheel = wheel();
+
+		assertTrue(wheel.add(wheel.spanMillis(), "edge"));
+		assertThrows(IllegalArgumentException.class, () -> wheel.add(20_000, "too far"));
+	}
+
+	@Test
+	void spanIsAvailableAfterWrapAround() {
+		HierarchicalTimingWheel<String> wheel = wheel();
+		wheel.advance(9500, item -> { });
+		long due = wheel.currentTime() + wheel.spanMillis();
+		assertTrue(wheel.add(due, "wrapped"));
+		List<String> expired = new ArrayList<>();
+
+		wheel.advance(due - 1, expired::add);
+		assertTrue(expired.isEmpty());
+
+		wheel.advance(due, expired::add);
+		assertEquals(List.of("wrapped"), expired);
+	}
+
+	@Test
+	void randomScheduleFiresEachItemExactlyOnceAtItsTick() {
+		Random random = new Random(42);
+		HierarchicalTimingWheel<Integer> wheel = wheel();
+		Map<Integer, Long> due = new HashMap<>();
+		Map<Integer, Long> firedAt = new HashMap<>();
+		int next = 0;
+		long now = 0;
+
+		while (now < 30_000) {
+			for (int i = 0; i < 5; i++) {
+				long expiration = wheel.currentTime() + 1 + (long) random.nextInt((int) wheel.spanMillis());
+				if (wheel.add(expiration, next)) {
+					due.put(next, expiration - Math.floorMod(expiration, TICK));
+				}
+				next++;
+			}
+			now += 1 + random.nextInt(300);
+			long advancedTo = now;
+			wheel.advance(now, item -> assertNull(firedAt.put(item, advancedTo), "중복 만료: " + item));
+
+			for (Map.Entry<Integer, Long> entry : due.entrySet()) {
+				Long fired = firedAt.get(entry.getKey());
+				if (entry.getValue() <= now) {
+					assertNotNull(fired, "만료되지 않음: " + entry.getKey());
+				} else {
+					assertNull(fired, "일찍 만료됨: " + entry.getKey());
+				}
+			}
+		}
+		assertEquals(due.size() - firedAt.size(), wheel.size());
+	}
+
+	private <T> HierarchicalTimingWheel<T> wheel() {
+		return new HierarchicalTimingWheel<>(TICK, 0, 10, 10, 10);
+	}
+}
@@ -0,0 +1,66 @@
+package com.example.tour_backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StreamUtilTests {
+
+	@Test
+	void forEachChunkSplitsStream() {
+		List<List<Integer>> chunks = new ArrayList<>();
+		StreamUtil.forEachChunk(Stream.of(1, 2, 3, 4, 5), 2, chunk -> chunks.add(new ArrayList<>(chunk)));
+
+		assertEquals(List.of(List.of(1, 2), List.of(3, 4), List.of(5)), chunks);
+	}
+
+	@Test
+	void forEachPageFollowsLastIdAcrossGaps() {
+		List<Long> ids = List.of(3L, 7L, 8L, 20L, 21L, 40L, 41L);
+		List<Long> requested = new ArrayList<>();
+		List<List<Long>> pages = new ArrayList<>();
+
+		StreamUtil.forEachPage((lastId, size) -> {
+			requested.add(lastId);
+			return after(ids, lastId, size);
+		}, Function.identity(), 3, pages::add);
+
+		assertEquals(List.of(List.of(3L, 7L, 8L), List.of(20L, 21L, 40L), List.of(41L)), pages);
+		assertEquals(List.of(0L, 8L, 40L), requested); // 덜 찬 페이지에서 끝
+	}
+
+	@Test
+	void forEachPageStopsOnEmptyPageWhenSizeDividesTotal() {
+		List<Long> ids = LongStream.rangeClosed(1, 6).boxed().toList();
+		List<Long> requested = new ArrayList<>();
+		List<Long> seen = new ArrayList<>();
+
+		StreamUtil.forEachPage((lastId, size) -> {
+			requested.add(lastId);
+			return after(ids, lastId, size);
+		}, Function.identity(), 3, seen::addAll);
+
+		assertEquals(ids, seen);
+		assertEquals(List.of(0L, 3L, 6L), requested);
+	}
+
+	@Test
+	void forEachPageOnEmptySourceDoesNothing() {
+		List<List<Long>> pages = new ArrayList<>();
+		StreamUtil.forEachPage((lastId, size) -> List.<Long>of(), Function.identity(), 3, pages::add);
+
+		assertEquals(List.of(), pages);
+	}
+
+	// lastId보다 큰 ID 오름차순 최대 size개 (findPageAfter와 같은 계약)
+	private static List<Long> after(List<Long> ids, long lastId, int size) {
+		return ids.stream().filter(id -> id > lastId).limit(size).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,50 @@
+package com.example.tour_backend.util.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BigramTokenizerTests {
+
+	@Test
+	void cjkRunIsSplitIntoOverlappingBigrams() {
+		assertEquals(List.of("제주@0", "주도@1"), tokens("제주도"));
+	}
+
+	@Test
+	void singleCjkCharacterIsKept() {
+		assertEquals(List.of("섬@0"), tokens("섬"));
+	}
+
+	@Test
+	void latinAndDigitRunIsOneLowercaseTerm() {
+		assertEquals(List.of("seoul2024@0"), tokens("Seoul2024"));
+	}
+
+	@Test
+	void separatorLeavesPositionGap() {
+		// "제주" 다음 공백 → 위치 한 칸 건너뜀
+		assertEquals(List.of("제주@0", "여행@2"), tokens("제주 여행"));
+	}
+
+	@Test
+	void scriptChangeWithoutSeparatorIsContiguous() {
+		assertEquals(List.of("ktx@0", "여행@1"), tokens("KTX여행"));
+	}
+
+	@Test
+	void nullOrSymbolsOnlyProduceNothing() {
+		assertTrue(tokens(null).isEmpty());
+		assertTrue(tokens("!! -- ??").isEmpty());
+	}
+
+	private List<String> tokens(String text) {
+		List<String> result = new ArrayList<>();
+		BigramTokenizer.tokenize(text, (term, position) -> result.add(term + "@" + position));
+		return result;
+	}
+}
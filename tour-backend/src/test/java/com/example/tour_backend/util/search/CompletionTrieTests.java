@@ -0,0 +1,165 @@
+package com.example.tour_backend.util.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompletionTrieTests {
+
+	@Test
+	void divergingKeySplitsEdge() {
+		CompletionTrie trie = new CompletionTrie();
+		trie.put("a", "abc", "T", 1);
+		assertEquals(2, trie.stats().getNodes());
+
+		trie.put("b", "abd", "T", 2);
+
+		// root ─ab─ (c, d)
+		assertEquals(4, trie.stats().getNodes());
+		assertEquals(4, trie.stats().getLabelChars());
+		assertEquals(List.of("abd", "abc"), texts(trie.complete("ab", 10)));
+		assertEquals(List.of("abd", "abc"), texts(trie.complete("a", 10))); // 간선 중간에서 끝나는 접두어
+		assertEquals(List.of("abc"), texts(trie.complete("abc", 10)));
+		assertEquals(List.of(), texts(trie.complete("abx", 10)));
+		assertEquals(List.of(), texts(trie.complete("abcd", 10)));
+	}
+
+	@Test
+	void keyEndingInsideEdgeSplitsEdge() {
+		CompletionTrie trie = new CompletionTrie();
+		trie.put("long", "abc", "T", 1);
+		trie.put("short", "ab", "T", 2);
+
+		// root ─ab(short)─ c(long)
+		assertEquals(3, trie.stats().getNodes());
+		assertEquals(List.of("ab", "abc"), texts(trie.complete("ab", 10)));
+		assertEquals(List.of("abc"), texts(trie.complete("abc", 10)));
+	}
+
+	@Test
+	void removeMergesSingleChildBack() {
+		CompletionTrie trie = new CompletionTrie();
+		trie.put("a", "abc", "T", 1);
+		trie.put("b", "abd", "T", 2);
+
+		trie.remove("b");
+
+		assertEquals(2, trie.stats().getNodes());
+		assertEquals(3, trie.stats().getLabelChars());
+		assertFalse(trie.contains("b"));
+		assertEquals(List.of("abc"), texts(trie.complete("ab", 10)));
+		assertEquals(List.of("abc"), texts(trie.complete("abc", 10)));
+
+		trie.remove("a");
+		assertEquals(1, trie.stats().getNodes());
+		assertEquals(0, trie.stats().getLabelChars());
+		assertEquals(List.of(), texts(trie.complete("a", 10)));
+	}
+
+	@Test
+	void removeEntryOnInnerNodeMergesIntoChild() {
+		CompletionTrie trie = new CompletionTrie();
+		trie.put("short", "ab", "T", 1);
+		trie.put("long", "abc", "T", 1);
+
+		trie.remove("short");
+
+		assertEquals(2, trie.stats().getNodes());
+		assertEquals(List.of("abc"), texts(trie.complete("a", 10)));
+	}
+
+	@Test
+	void nodeWithEntryIsNotMerged() {
+		CompletionTrie trie = new CompletionTrie();
+		trie.put("ab", "ab", "T", 1);
+		trie.put("abc", "abc", "T", 1);
+		trie.put("abd", "abd", "T", 1);
+
+		trie.remove("abc");
+
+		// root ─ab(ab)─ d(abd)
+		assertEquals(3, trie.stats().getNodes());
+		assertEquals(2, trie.complete("ab", 10).size());
+	}
+
+	@Test
+	void putWithSameIdReplacesEntry() {
+		CompletionTrie trie = new CompletionTrie();
+		trie.put("a", "abc", "T", 1);
+		trie.put("a", "xyz", "T", 1);
+
+		assertEquals(2, trie.stats().getNodes());
+		assertEquals(1, trie.stats().getEntries());
+		assertEquals(List.of(), texts(trie.complete("ab", 10)));
+		assertEquals(List.of("xyz"), texts(trie.complete("x", 10)));
+	}
+
+	@Test
+	void adjustWeightReordersCompletions() {
+		CompletionTrie trie = new CompletionTrie();
+		trie.put("a", "jeju airport", "T", 1);
+		trie.put("b", "jeju beach", "T", 2);
+		trie.put("c", "jeju city", "T", 3);
+		assertEquals(List.of("jeju city", "jeju beach", "jeju airport"), texts(trie.complete("jeju", 10)));
+
+		trie.adjustWeight("a", 5);
+		assertEquals(List.of("jeju airport", "jeju city", "jeju beach"), texts(trie.complete("jeju", 10)));
+
+		trie.adjustWeight("c", -100); // 0 미만으로 내려가지 않음
+		assertEquals(0.0, trie.complete("jeju c", 1).get(0).getWeight());
+		assertEquals(List.of("jeju airport", "jeju beach", "jeju city"), texts(trie.complete("jeju", 10)));
+
+		trie.adjustWeight("missing", 10);
+		assertEquals(List.of("jeju airport", "jeju beach"), texts(trie.complete("jeju", 2)));
+	}
+
+	// 지운 항목의 가중치가 상위 노드 최대값에 남으면 best-first 순서가 틀어짐
+	@Test
+	void removeRefreshesSubtreeMaxWeight() {
+		CompletionTrie trie = new CompletionTrie();
+		trie.put("heavy", "abx", "T", 100);
+		trie.put("light", "aby", "T", 1);
+		trie.put("middle", "b", "T", 5);
+
+		trie.remove("heavy");
+
+		assertEquals(List.of("b", "aby"), texts(trie.complete("", 10)));
+		assertEquals(List.of("b"), texts(trie.complete("", 1)));
+	}
+
+	@Test
+	void sameTypeAndTextIsListedOnce() {
+		CompletionTrie trie = new CompletionTrie();
+		trie.put("area:1", "제주", "AREA", 2);
+		trie.put("area:2", "제주", "AREA", 1);
+		trie.put("place:1", "제주", "PLACE", 1);
+
+		List<CompletionTrie.Entry> result = trie.complete("제주", 10);
+
+		assertEquals(2, result.size());
+		assertEquals("area:1", result.get(0).getId());
+		assertEquals("PLACE", result.get(1).getType());
+	}
+
+	@Test
+	void jamoPrefixMatchesSyllableInProgress() {
+		CompletionTrie trie = new CompletionTrie();
+		trie.put("1", "제주", "AREA", 2);
+		trie.put("2", "전주", "AREA", 1);
+
+		assertEquals(List.of("제주"), texts(trie.complete("젲", 10)));
+		assertEquals(List.of("제주"), texts(trie.complete("제", 10)));
+		assertEquals(List.of("제주", "전주"), texts(trie.complete("ㅈ", 10)));
+		assertEquals(List.of("전주"), texts(trie.complete("전", 10)));
+		assertEquals(List.of(), texts(trie.complete("젖", 10)));
+		assertTrue(trie.complete("제주", 0).isEmpty());
+	}
+
+	private static List<String> texts(List<CompletionTrie.Entry> entries) {
+		return entries.stream().map(CompletionTrie.Entry::getText).toList();
+	}
+}
@@ -0,0 +1,49 @@
+package com.example.tour_backend.util.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HangulJamoTests {
+
+	@Test
+	void syllablesAreSplitIntoCompatibilityJamo() {
+		assertEquals("ㅈㅔㅈㅜ", HangulJamo.decompose("제주"));
+		assertEquals("ㄱㅏㅇㄹㅡㅇ", HangulJamo.decompose("강릉"));
+	}
+
+	@Test
+	void compoundVowelsAndFinalsAreSplit() {
+		assertEquals("ㄷㅏㄹㄱ", HangulJamo.decompose("닭"));
+		assertEquals("ㄱㅗㅏ", HangulJamo.decompose("과"));
+		assertEquals("ㅇㅡㅣ", HangulJamo.decompose("의"));
+		assertEquals("ㄱㅏㅂㅅ", HangulJamo.decompose("값"));
+	}
+
+	@Test
+	void typedCompoundJamoMatchesSyllables() {
+		assertEquals("ㄹㄱ", HangulJamo.decompose("ㄺ"));
+		assertEquals("ㅗㅏ", HangulJamo.decompose("ㅘ"));
+		assertEquals(HangulJamo.decompose("과"), HangulJamo.decompose("ㄱㅘ"));
+	}
+
+	// 입력 중인 글자("젲")도 완성된 단어의 접두어
+	@Test
+	void syllableInProgressIsPrefixOfCompletedWord() {
+		String word = HangulJamo.decompose("제주");
+
+		assertTrue(word.startsWith(HangulJamo.decompose("젲")));
+		assertTrue(word.startsWith(HangulJamo.decompose("제")));
+		assertTrue(word.startsWith(HangulJamo.decompose("ㅈ")));
+		assertFalse(word.startsWith(HangulJamo.decompose("젖")));
+	}
+
+	@Test
+	void whitespaceIsRemovedAndLatinLowercased() {
+		assertEquals("jejuisland", HangulJamo.decompose(" Jeju  Island "));
+		assertEquals("ㅈㅔㅈㅜㄷㅗ", HangulJamo.decompose("제주 도"));
+		assertEquals("", HangulJamo.decompose(null));
+	}
+}
@@ -0,0 +1,70 @@
+package com.example.tour_backend.util.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IndexSegmentFileTests {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void roundTripRestoresDocumentsAndSearchResults() throws IOException {
+		InvertedIndex original = new InvertedIndex(2.0f, 1.0f);
+		original.put(1, 100, "제주도 여행", "Seoul 출발 KTX");
+		original.put(2, 200, "부산 맛집", "제주도 비교");
+		original.put(3, 300, "", "");
+		Path file = dir.resolve("threads.seg");
+
+		assertEquals(3, IndexSegmentFile.write(original, file));
+		assertFalse(Files.exists(file.resolveSibling("threads.seg.tmp")));
+
+		InvertedIndex restored = new InvertedIndex(2.0f, 1.0f);
+		assertEquals(3, IndexSegmentFile.read(file, restored));
+
+		assertEquals(original.versions(), restored.versions());
+		for (String query : List.of("제주도", "seo", "맛집", "ktx 출발")) {
+			assertEquals(hits(original.search(query, 0, 1)), hits(restored.search(query, 0, 1)), query);
+		}
+	}
+
+	@Test
+	void missingFileReturnsMinusOne() throws IOException {
+		assertEquals(-1, IndexSegmentFile.read(dir.resolve("none.seg"), new InvertedIndex(1.0f)));
+	}
+
+	@Test
+	void fieldCountMismatchIsRejected() throws IOException {
+		InvertedIndex original = new InvertedIndex(1.0f, 1.0f);
+		original.put(1, 0, "제주", "");
+		Path file = dir.resolve("threads.seg");
+		IndexSegmentFile.write(original, file);
+
+		assertThrows(IOException.class, () -> IndexSegmentFile.read(file, new InvertedIndex(1.0f)));
+	}
+
+	@Test
+	void garbageFileIsRejected() throws IOException {
+		Path file = dir.resolve("threads.seg");
+		Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+		assertThrows(IOException.class, () -> IndexSegmentFile.read(file, new InvertedIndex(1.0f)));
+	}
+
+	private Map<Long, Double> hits(List<InvertedIndex.Hit> hits) {
+		Map<Long, Double> result = new LinkedHashMap<>();
+		hits.forEach(hit -> result.put(hit.getDocId(), hit.getScore()));
+		return result;
+	}
+}
@@ -0,0 +1,127 @@
+package com.example.tour_backend.util.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InvertedIndexTests {
+	private static final int TITLE = 0;
+	private static final int CONTENT = 1;
+
+	@Test
+	void phraseMustBeContiguousInSameField() {
+		InvertedIndex index = new InvertedIndex(1.0f, 1.0f);
+		index.put(1, 0, "제주도 여행", "");
+		index.put(2, 0, "제주 도보 여행", ""); // "제주","도보" → "주도" 없음
+		index.put(3, 0, "주도 제주", "");       // 용어는 있지만 순서가 다름
+
+		assertEquals(List.of(1L), ids(index.search("제주도", TITLE, CONTENT)));
+	}
+
+	@Test
+	void phraseDoesNotSpanFields() {
+		InvertedIndex index = new InvertedIndex(1.0f, 1.0f);
+		index.put(1, 0, "제주", "도시");
+
+		assertTrue(index.search("제주도", TITLE, CONTENT).isEmpty());
+	}
+
+	@Test
+	void allWordsMustMatch() {
+		InvertedIndex index = new InvertedIndex(1.0f, 1.0f);
+		index.put(1, 0, "부산 맛집", "");
+		index.put(2, 0, "부산 야경", "");
+
+		assertEquals(List.of(1L), ids(index.search("부산 맛집", TITLE, CONTENT)));
+	}
+
+	@Test
+	void latinWordMatchesByPrefix() {
+		InvertedIndex index = new InvertedIndex(1.0f, 1.0f);
+		index.put(1, 0, "Seoul trip", "");
+		index.put(2, 0, "Busan trip", "");
+
+		assertEquals(List.of(1L), ids(index.search("seo", TITLE, CONTENT)));
+		assertEquals(List.of(1L), ids(index.search("SEOUL", TITLE, CONTENT)));
+	}
+
+	@Test
+	void singleCjkCharacterMatchesByPrefix() {
+		InvertedIndex index = new InvertedIndex(1.0f, 1.0f);
+		index.put(1, 0, "제주", "");
+		index.put(2, 0, "부산", "");
+
+		assertEquals(List.of(1L), ids(index.search("제", TITLE, CONTENT)));
+	}
+
+	@Test
+	void searchOnlyLooksAtRequestedFields() {
+		InvertedIndex index = new InvertedIndex(1.0f, 1.0f);
+		index.put(1, 0, "", "제주");
+
+		assertTrue(index.search("제주", TITLE).isEmpty());
+		assertEquals(List.of(1L), ids(index.search("제주", CONTENT)));
+	}
+
+	@Test
+	void bm25PrefersHigherTermFrequencyAndShorterField() {
+		InvertedIndex index = new InvertedIndex(1.0f, 1.0f);
+		index.put(1, 0, "", "제주 제주 제주");
+		index.put(2, 0, "", "제주 바다 하늘 바람 돌 숲");
+		index.put(3, 0, "", "부산");
+
+		List<InvertedIndex.Hit> hits = index.search("제주", CONTENT);
+		assertEquals(List.of(1L, 2L), ids(hits));
+		assertTrue(hits.get(0).getScore() > hits.get(1).getScore());
+	}
+
+	@Test
+	void fieldWeightRaisesScore() {
+		InvertedIndex index = new InvertedIndex(2.0f, 1.0f);
+		index.put(1, 0, "", "제주");
+		index.put(2, 0, "제주", "");
+		index.put(3, 0, "부산", "");
+
+		assertEquals(List.of(2L, 1L), ids(index.search("제주", TITLE, CONTENT)));
+	}
+
+	@Test
+	void equalScoresAreOrderedByNewestDocument() {
+		InvertedIndex index = new InvertedIndex(1.0f, 1.0f);
+		index.put(1, 0, "제주", "");
+		index.put(2, 0, "제주", "");
+
+		assertEquals(List.of(2L, 1L), ids(index.search("제주", TITLE)));
+	}
+
+	@Test
+	void putReplacesAndRemoveDeletes() {
+		InvertedIndex index = new InvertedIndex(1.0f, 1.0f);
+		index.put(1, 1, "제주", "");
+		index.put(1, 2, "부산", "");
+
+		assertTrue(index.search("제주", TITLE).isEmpty());
+		assertEquals(List.of(1L), ids(index.search("부산", TITLE)));
+		assertEquals(Map.of(1L, 2L), index.versions());
+
+		index.remove(1);
+		assertEquals(0, index.size());
+		assertTrue(index.search("부산", TITLE).isEmpty());
+	}
+
+	@Test
+	void fieldCountMustMatch() {
+		InvertedIndex index = new InvertedIndex(1.0f, 1.0f);
+
+		assertThrows(IllegalArgumentException.class, () -> index.put(1, 0, "제주"));
+	}
+
+	private List<Long> ids(List<InvertedIndex.Hit> hits) {
+		return hits.stream().map(InvertedIndex.Hit::getDocId).toList();
+	}
+}
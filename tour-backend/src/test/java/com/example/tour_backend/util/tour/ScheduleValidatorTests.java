@@ -0,0 +1,160 @@
+package com.example.tour_backend.util.tour;
+
+import com.example.tour_backend.dto.tour.plan.CoordinatesDto;
+import com.example.tour_backend.dto.tour.plan.LocationDataDto;
+import com.example.tour_backend.dto.tour.plan.ScheduleItemDto;
+import com.example.tour_backend.dto.tour.plan.TravelPlanDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScheduleValidatorTests {
+	private static final LocalDate START = LocalDate.of(2025, 7, 1);
+	private static final LocalDate END = LocalDate.of(2025, 7, 3);
+
+	@Test
+	void validScheduleHasNoViolations() {
+		assertTrue(validate(item("2025-07-01", "09:00", "10:30")).isEmpty());
+		assertTrue(validate(item("2025-07-03", "", null)).isEmpty()); // 시간 생략 가능
+		assertTrue(ScheduleValidator.validate((TravelPlanDto) null, START, END).isEmpty());
+		assertTrue(ScheduleValidator.validate(new TravelPlanDto(), START, END).isEmpty());
+	}
+
+	@Test
+	void dateIsRequiredAndMustBeInTrip() {
+		assertEquals(List.of("schedules[0].date"), paths(validate(item(null, "09:00", "10:00"))));
+		assertEquals(List.of("schedules[0].date"), paths(validate(item("2025/07/01", "09:00", "10:00"))));
+		assertEquals(List.of("schedules[0].date"), paths(validate(item("2025-02-29", "09:00", "10:00"))));
+		assertEquals(List.of("schedules[0].date"), paths(validate(item("2025-06-30", "09:00", "10:00"))));
+		assertEquals(List.of("schedules[0].date"), paths(validate(item("2025-07-04", "09:00", "10:00"))));
+
+		// 여행 기간이 없으면 기간 규칙 생략
+		assertTrue(ScheduleValidator.validate(List.of(item("2030-01-01", "09:00", "10:00")), null, null).isEmpty());
+	}
+
+	@Test
+	void violationsCarryIndexAndField() {
+		List<ScheduleValidator.Violation> violations = validate(
+				item("2025-07-01", "09:00", "10:00"),
+				null,
+				item("2025-07-02", "25:00", "aa"));
+
+		assertEquals(List.of("schedules[1]", "schedules[2].startTime", "schedules[2].endTime"), paths(violations));
+	}
+
+	// 23:00 ~ 01:00 처럼 자정을 넘기는 일정은 다음 날 종료
+	@Test
+	void overnightItemIsAllowed() {
+		assertTrue(validate(item("2025-07-01", "23:00", "01:00")).isEmpty());
+		assertTrue(validate(item("2025-07-02", "오후 11:30", "오전 2:00")).isEmpty());
+		assertTrue(ScheduleValidator.validate(List.of(item("2025-07-03", "23:00", "01:00")), START, null).isEmpty());
+	}
+
+	@Test
+	void overnightItemOnLastDayIsRejected() {
+		List<ScheduleValidator.Violation> violations = validate(item("2025-07-03", "23:00", "01:00"));
+
+		assertEquals(List.of("schedules[0].endTime"), paths(violations));
+		assertTrue(validate(item("2025-07-03", "22:00", "23:59")).isEmpty());
+	}
+
+	@Test
+	void coordinatesAndRatingMustBeInRange() {
+		ScheduleItemDto valid = item("2025-07-01", "09:00", "10:00");
+		valid.setLocationData(location(33.5, 126.5, 4.5));
+		assertTrue(validate(valid).isEmpty());
+
+		ScheduleItemDto invalid = item("2025-07-01", "09:00", "10:00");
+		invalid.setLocationData(location(91.0, Double.NaN, 5.1));
+		assertEquals(List.of("schedules[0].locationData.coordinates.lat",
+				"schedules[0].locationData.coordinates.lng",
+				"schedules[0].locationData.rating"), paths(validate(invalid)));
+	}
+
+	@Test
+	void parsesTwentyFourHourTimes() {
+		assertEquals(0, ScheduleValidator.parseMinutes("00:00"));
+		assertEquals(9 * 60 + 5, ScheduleValidator.parseMinutes("9:05"));
+		assertEquals(23 * 60 + 59, ScheduleValidator.parseMinutes("23:59"));
+		assertEquals(14 * 60 + 30, ScheduleValidator.parseMinutes(" 14:30:15 "));
+
+		assertEquals(-1, ScheduleValidator.parseMinutes("24:00"));
+		assertEquals(-1, ScheduleValidator.parseMinutes("12:60"));
+		assertEquals(-1, ScheduleValidator.parseMinutes("12:30:60"));
+		assertEquals(-1, ScheduleValidator.parseMinutes("1230"));
+		assertEquals(-1, ScheduleValidator.parseMinutes("123:00"));
+		assertEquals(-1, ScheduleValidator.parseMinutes("12:3"));
+		assertEquals(-1, ScheduleValidator.parseMinutes("ab:cd"));
+	}
+
+	@Test
+	void parsesKoreanMeridiem() {
+		assertEquals(0, ScheduleValidator.parseMinutes("오전 12:00"));
+		assertEquals(9 * 60, ScheduleValidator.parseMinutes("오전 9:00"));
+		assertEquals(12 * 60, ScheduleValidator.parseMinutes("오후 12:00"));
+		assertEquals(14 * 60 + 30, ScheduleValidator.parseMinutes("오후 2:30"));
+		assertEquals(23 * 60 + 59, ScheduleValidator.parseMinutes("오후11:59"));
+
+		assertEquals(-1, ScheduleValidator.parseMinutes("오후 13:00"));
+		assertEquals(-1, ScheduleValidator.parseMinutes("오전 0:30"));
+	}
+
+	@Test
+	void parsesEnglishMeridiem() {
+		assertEquals(0, ScheduleValidator.parseMinutes("12:00 AM"));
+		assertEquals(9 * 60 + 15, ScheduleValidator.parseMinutes("9:15 am"));
+		assertEquals(12 * 60, ScheduleValidator.parseMinutes("12:00 PM"));
+		assertEquals(14 * 60 + 30, ScheduleValidator.parseMinutes("2:30PM"));
+
+		assertEquals(-1, ScheduleValidator.parseMinutes("13:00 PM"));
+		assertEquals(-1, ScheduleValidator.parseMinutes("PM"));
+	}
+
+	@Test
+	void blankTimeIsSkipped() {
+		assertTrue(ScheduleValidator.parseMinutes(null) < -1);
+		assertTrue(ScheduleValidator.parseMinutes("  ") < -1);
+	}
+
+	@Test
+	void epochDayMatchesLocalDate() {
+		LocalDate date = LocalDate.of(1999, 12, 1);
+		for (int i = 0; i < 20000; i++) {
+			assertEquals(date.toEpochDay(), ScheduleValidator.parseEpochDay(date.toString()));
+			date = date.plusDays(1);
+		}
+		assertEquals(LocalDate.of(2024, 2, 29).toEpochDay(), ScheduleValidator.parseEpochDay("2024-02-29"));
+		assertEquals(Long.MIN_VALUE, ScheduleValidator.parseEpochDay("2100-02-29"));
+		assertEquals(Long.MIN_VALUE, ScheduleValidator.parseEpochDay("2025-13-01"));
+		assertEquals(Long.MIN_VALUE, ScheduleValidator.parseEpochDay("2025-1-01"));
+	}
+
+	private static List<ScheduleValidator.Violation> validate(ScheduleItemDto... items) {
+		return ScheduleValidator.validate(new ArrayList<>(Arrays.asList(items)), START, END);
+	}
+
+	private static ScheduleItemDto item(String date, String startTime, String endTime) {
+		ScheduleItemDto item = new ScheduleItemDto();
+		item.setDate(date);
+		item.setStartTime(startTime);
+		item.setEndTime(endTime);
+		return item;
+	}
+
+	private static LocationDataDto location(double lat, double lng, double rating) {
+		LocationDataDto location = new LocationDataDto();
+		location.setCoordinates(new CoordinatesDto(lat, lng));
+		location.setRating(rating);
+		return location;
+	}
+
+	private static List<String> paths(List<ScheduleValidator.Violation> violations) {
+		return violations.stream().map(ScheduleValidator.Violation::getPath).toList();
+	}
+}
@@ -3,7 +3,7 @@
 import React, { useEffect, useState, useContext } from 'react';
 import { Box, Typography, Modal, Button, Container, IconButton, Badge } from '@mui/material';
 import NotificationsIcon from '@mui/icons-material/Notifications';
-import { fetchNotifications, markAsRead } from '../../services/notificationApi';
+import { fetchNotifications, markAsRead, subscribeNotifications } from '../../services/notificationApi';
 import { Notification } from '../../types/notification';
 import { useNavigate } from 'react-router-dom';
 import { AuthContext } from '../../context/AuthContext';
@@ -24,7 +24,7 @@ const NotificationPopup: React.FC = () => {
   // react-router의 navigation 함수 (페이지 이동용)
   const navigate = useNavigate();
 
-  // // 컴포넌트가 mount 되거나 open 상태, user가 바뀔 때마다 알림을 서버에서 불러오는 useEffect
+  // // 컴포넌트가 mount 되거나 user가 바뀔 때 알림을 서버에서 불러오고 새 알림을 구독하는 useEffect
   useEffect(() => {
     // user가 없으면(로그인 안됨) 아무것도 안함
     if (!user) return;
@@ -41,7 +41,14 @@ const NotificationPopup: React.FC = () => {
       //setHasNew(filtered.some(n => !n.isRead)); // 읽지 않은 알림이 하나라도 있으면 true로 설정
     };
     load();
-  }, [open, user]); // open 또는 user가 바뀌면 다시 불러옴
+
+    // 이후 새 알림은 서버가 밀어줌 (팝업을 열 때마다 다시 불러오지 않음)
+    // 묶음 알림이 갱신되면 같은 noticeId로 다시 오므로 기존 항목을 빼고 맨 앞에 넣음
+    const unsubscribe = subscribeNotifications(user.userId, notification => {
+      setNotifications(prev => [notification, ...prev.filter(n => n.noticeId !== notification.noticeId)]);
+    });
+    return unsubscribe;
+  }, [user]); // user가 바뀌면 다시 불러오고 다시 구독
 
    // notifications가 바뀔 때마다 hasNew 상태를 최신화
    useEffect(() => {
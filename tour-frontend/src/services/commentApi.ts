@@ -1,5 +1,5 @@
 import api from './api';
-import { Comment, CommentRequest } from '../types/comment';  
+import { Comment, CommentPage, CommentRequest } from '../types/comment';  
 
 // 댓글 목록 조회 parentId가 있으면 대댓글로 처리됨 7/2
 export async function getComments(threadId: number): Promise<Comment[]> {
@@ -7,6 +7,25 @@ export async function getComments(threadId: number): Promise<Comment[]> {
   return response.data;
 }
 
+// 댓글 커서 페이지 (최상위 댓글 + 댓글마다 앞부분 대댓글 replies개)
+export async function getCommentPage(threadId: number, params: {
+  size: number;
+  cursor?: string | null;
+  replies?: number;
+}): Promise<CommentPage> {
+  const response = await api.get(`/comments/thread/${threadId}`, { params });
+  return response.data;
+}
+
+// 대댓글 더보기 (cursor는 이미 받은 마지막 대댓글 ID)
+export async function getReplyPage(commentId: number, params: {
+  size?: number;
+  cursor?: string | number | null;
+}): Promise<CommentPage> {
+  const response = await api.get(`/comments/${commentId}/replies`, { params });
+  return response.data;
+}
+
 // 댓글 또는 대댓글 작성 (parentId가 있으면 대댓글로 처리됨)
 export async function postComment(data: CommentRequest): Promise<Comment> {
   const response = await api.post(`/comments`, data);  
@@ -9,9 +9,48 @@ export const fetchNotifications = async (userId: number): Promise<Notification[]
   return res.data;
 };
 
+// 안 읽은 알림 수 (배지용, 목록을 받지 않음)
+export const fetchUnreadCount = async (userId: number): Promise<number> => {
+  const res = await api.get(`/notifications/user/${userId}/unread-count`);
+  return res.data;
+};
+
+// 새 알림 실시간 구독 (SSE) - 끊기면 브라우저가 Last-Event-ID로 자동 재연결/재개
+// 반환된 함수를 호출하면 구독 종료
+export const subscribeNotifications = (
+  userId: number,
+  onNotification: (notification: Notification) => void
+): (() => void) => {
+  const source = new EventSource(`${api.defaults.baseURL}/notifications/stream?userId=${userId}`);
+  source.addEventListener('notification', event => {
+    onNotification(JSON.parse((event as MessageEvent).data));
+  });
+  return () => source.close();
+};
+
 // 알림 삭제 -> 읽음처리로 수정 (db에 기록이 남게끔하기) 이거 안쓰고 있음
-export const deleteNotifications = async (ids: number[]) => {
-  return api.delete(`/notifications`, { data: { ids } });
+// 삭제된 알림 수 반환
+export const deleteNotifications = async (ids: number[]): Promise<number> => {
+  const res = await api.delete(`/notifications`, { data: ids });
+  return res.data;
+};
+
+// 읽은 알림 전부 삭제 (삭제된 알림 수 반환)
+export const deleteAllRead = async (userId: number): Promise<number> => {
+  const res = await api.delete(`/notifications/user/${userId}/read`);
+  return res.data;
+};
+
+// 선택한 알림 읽음 처리 (읽음으로 바뀐 알림 수 반환)
+export const markAsReadByIds = async (ids: number[]): Promise<number> => {
+  const res = await api.patch(`/notifications/read`, ids);
+  return res.data;
+};
+
+// 모든 알림 읽음 처리 (읽음으로 바뀐 알림 수 반환)
+export const markAllAsRead = async (userId: number): Promise<number> => {
+  const res = await api.patch(`/notifications/user/${userId}/read-all`);
+  return res.data;
 };
 
 //  읽음 처리 API 함수 
@@ -1,5 +1,5 @@
 import api from './api';
-import { Thread, ThreadRequest } from '../types/thread';
+import { AreaFacet, Suggestion, Thread, ThreadPage, ThreadRequest } from '../types/thread';
 
 /** 모든 게시글 목록 조회 */
 export const getThreads = async (): Promise<Thread[]> => {
@@ -7,6 +7,30 @@ export const getThreads = async (): Promise<Thread[]> => {
   return response.data;
 };
 
+/** 게시글 커서 페이지 조회 (목록용, 본문 제외) */
+export const getThreadPage = async (params: {
+  size: number;
+  cursor?: string | null;
+  area?: string;
+  sort?: 'latest' | 'views' | 'likes';
+  userId?: number;            // 있으면 likedByCurrentUser까지 채워서 응답
+}): Promise<ThreadPage> => {
+  const response = await api.get('/thread', { params });
+  return response.data;
+};
+
+/** 게시판 지역 필터 목록 (게시글 수 내림차순) */
+export const getAreaFacets = async (): Promise<AreaFacet[]> => {
+  const response = await api.get('/thread/areas');
+  return response.data;
+};
+
+/** 검색어 자동완성 (게시글 제목/지역/장소, 인기도 순) */
+export const getSuggestions = async (q: string, size?: number): Promise<Suggestion[]> => {
+  const response = await api.get('/thread/suggest', { params: { q, size } });
+  return response.data;
+};
+
 /** 게시글 작성 */
 export const createThread = async (thread: ThreadRequest): Promise<Thread> => {
   const response = await api.post('/thread', thread);
@@ -51,7 +75,7 @@ export const updateThread = async (threadId: number, thread: ThreadRequest): Pro
 // };
 /** 게시글 검색 기능 (제목+내용 or 작성자 기준) */
 export const searchThreads = async (keyword: string, 
-searchType: 'author' | 'title_content', sortBy: 'createDate' | 'views' | 'likes' = 'createDate'
+searchType: 'author' | 'title_content', sortBy: 'createDate' | 'views' | 'likes' | 'relevance' = 'createDate'
 ): Promise<Thread[]> => {
   const response = await api.get(`/thread/search`, {
     params: {
@@ -71,6 +95,23 @@ export const likeThread = async (threadId: number, userId: number) => {
   return response.data;
 };
 
+/** 좋아요 설정/해제 (여러 번 호출해도 결과가 같음) */
+export const setThreadLike = async (threadId: number, userId: number, liked: boolean): Promise<Thread> => {
+  const response = liked
+    ? await api.put(`/thread/${threadId}/like`, null, { params: { userId } })
+    : await api.delete(`/thread/${threadId}/like`, { params: { userId } });
+  return response.data;
+};
+
+/** 목록 페이지 좋아요 여부 일괄 조회 (조회수 증가 없음) → 좋아요 누른 게시글 ID 목록 */
+export const getLikedThreadIds = async (userId: number, threadIds: number[]): Promise<number[]> => {
+  if (threadIds.length === 0) return [];
+  const response = await api.get('/thread/liked', {
+    params: { userId, threadIds: threadIds.join(',') },
+  });
+  return response.data;
+};
+
 /** 게시글 상세 조회 + 좋아요 상태 포함 조회 (userId 필요) */
 export const getThreadWithLikeStatus = async (threadId: number, userId: number): Promise<Thread> => {
   const response = await api.get(`/thread/${threadId}/like-status`, {
@@ -1,5 +1,5 @@
 import api, { ApiResponse } from './api';
-import { TourType } from '../types/travel';
+import { TourType, TourCalendar } from '../types/travel';
 
 // Tour API 서비스 - 백엔드 통합 저장 방식
 export const tourAPI = {
@@ -44,6 +44,12 @@ export const tourAPI = {
     return response.data.data;
   },
 
+  // 사용자의 월간 캘린더 조회 (month: YYYY-MM)
+  getMonthlyCalendar: async (userId: number, month: string): Promise<TourCalendar> => {
+    const response = await api.get<ApiResponse<TourCalendar>>(`/tours/user/${userId}/calendar`, { params: { month } });
+    return response.data.data;
+  },
+
   // 사용자의 여행 계획 개수 조회
   getUserTourCount: async (userId: number): Promise<number> => {
     const response = await api.get<ApiResponse<number>>(`/tours/user/${userId}/count`);
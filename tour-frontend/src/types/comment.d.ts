@@ -8,6 +8,14 @@ export interface Comment {
   parentId?: number;        // 대댓글이면 부모 댓글 ID 7/2
   comments?: Comment[];     // 대댓글 리스트 (트리 구조)
   userId: number;
+  depth?: number;           // 트리 깊이 (최상위 = 0)
+  replyCount?: number;      // 직계 대댓글 수 (comments에 일부만 담긴 경우 "답글 더보기" 판단용)
+}
+// 댓글 커서 페이지 응답 (nextCursor를 다음 요청의 cursor로 그대로 전달)
+export interface CommentPage {
+  comments: Comment[];
+  nextCursor: string | null;
+  hasNext: boolean;
 }
 // 댓글 작성 요청용 (POST 요청 body에 사용)
 export interface CommentRequest {
@@ -3,9 +3,13 @@
 export interface Notification {
   noticeId: number;
   userId: number;
-  threadId: number;
-  commentId: number;
+  type: 'COMMENT' | 'TOUR_REMINDER';
+  threadId: number | null; // 여행 리마인더는 null
+  commentId: number | null;
+  tourId: number | null;   // 여행 리마인더의 여행 계획 ID
   message: string;
+  actorCount: number;      // 묶인 알림을 만든 회원 수 ("OO님 외 N명")
+  actors: string[];        // 최근 회원 이름 (최신순)
   isRead: boolean;
   createDate: string;
 }
@@ -16,6 +16,26 @@ export interface Thread { // thread dto 데이터구조와 일치
   modifiedDate: string;     // 수정일
 }
 
+export interface ThreadPage { // 게시판 커서 페이지 응답 (threads의 content는 비어 있음)
+  threads: Thread[];
+  nextCursor: string | null;  // 다음 요청의 cursor (마지막 페이지면 null)
+  hasNext: boolean;
+}
+
+export interface AreaFacet { // 게시판 지역 필터 항목
+  areaKey: string;            // 필터 요청(area 파라미터)에 쓰는 정규화 키
+  label: string;              // 표시 이름 (가장 많이 쓰인 표기)
+  count: number;              // 게시글 수
+  lastActivity: string | null; // 최근 작성/수정/댓글 시각
+}
+
+export interface Suggestion { // 검색어 자동완성 항목
+  type: 'THREAD' | 'AREA' | 'PLACE';
+  text: string;               // 표시 문자열
+  value: string;              // THREAD는 threadId, AREA는 areaKey, PLACE는 placeId
+  weight: number;             // 인기도
+}
+
 export interface ThreadRequest { // 게시글 "작성 시" 보내는 데이터 구조. 백엔드 Thread 컨트롤러에서 받음
   userId: number;
   title: string;
@@ -76,6 +76,23 @@ export interface PlanMetadataDto {
   estimatedBudget?: number;
 }
 
+// 백엔드 TourCalendarDto와 일치하는 구조 (여행이나 일정이 있는 날만 포함)
+export interface TourCalendar {
+  month: string; // YYYY-MM
+  tours: {
+    tourId: number;
+    title: string;
+    startDate: string;
+    endDate: string;
+  }[];
+  days: {
+    date: string; // YYYY-MM-DD
+    tourCount: number;
+    tourIds: number[];
+    scheduleCount: number;
+  }[];
+}
+
 // ==== 기존 프론트엔드 전용 타입들 (호환성 유지) ====
 
 // 프론트엔드에서만 사용하는 Schedule 타입 (레거시 호환)
@@ -30,6 +30,8 @@ export interface UserResponse {
   nickname: string;
   createDate: string;
   modifiedDate: string;
+  threadCount: number;   // 작성한 게시글 수
+  commentCount: number;  // 작성한 댓글 수
 }
 // 회원정보 수정 요청 타입 - 백엔드 DTo 에 없어서 새로 만듬 // 비번 변경 중복체크는 아직 안함 정보수정만 가능 
 export interface UserUpdateRequest {